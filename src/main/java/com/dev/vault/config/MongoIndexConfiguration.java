@@ -0,0 +1,161 @@
+package com.dev.vault.config;
+
+import com.dev.vault.model.domain.project.JoinCoupon;
+import com.dev.vault.model.domain.project.JoinProjectRequest;
+import com.dev.vault.model.domain.project.Project;
+import com.dev.vault.model.domain.relationship.*;
+import com.dev.vault.model.domain.scheduler.SchedulerLease;
+import com.dev.vault.model.domain.task.Task;
+import com.dev.vault.model.domain.user.Roles;
+import com.dev.vault.model.domain.user.User;
+import com.dev.vault.model.domain.user.VerificationToken;
+import com.dev.vault.model.domain.user.jwt.JwtToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition.TextIndexDefinitionBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.domain.Sort.Direction.ASC;
+import static org.springframework.data.domain.Sort.Direction.DESC;
+
+/**
+ * Declares the indexes backing the derived queries in {@code repository/**} and creates them on startup.
+ * <p>
+ * The definitions live here instead of {@code @Indexed} on the domain classes, because most of the domain classes
+ * are also embedded into other documents (e.g. {@link User} inside {@link UserRole}) and Spring would create the
+ * nested copies of every annotated index on those collections as well.
+ * <p>
+ * Every derived query should be covered by one of these indexes; {@code QueryPlanRegressionTests} fails the build
+ * when a repository method ends up with a {@code COLLSCAN} plan.
+ */
+@Slf4j
+@Configuration
+public class MongoIndexConfiguration {
+
+    /**
+     * Returns the index definitions of every collection, keyed by the domain class of the collection.
+     *
+     * @return an ordered map of domain class to the indexes that have to exist on its collection.
+     */
+    public static Map<Class<?>, List<IndexDefinition>> indexDefinitions() {
+        Map<Class<?>, List<IndexDefinition>> indexes = new LinkedHashMap<>();
+
+        /* user */
+        indexes.put(User.class, List.of(
+                new Index().on("email", ASC).named("email")
+        ));
+        indexes.put(Roles.class, List.of(
+                new Index().on("role", ASC).named("role")
+        ));
+        indexes.put(VerificationToken.class, List.of(
+                new Index().on("token", ASC).named("token")
+        ));
+        indexes.put(JwtToken.class, List.of(
+                new Index().on("token", ASC).named("token")
+        ));
+
+        /* project */
+        indexes.put(Project.class, List.of(
+                new Index().on("projectName", ASC).named("projectName"),
+                // the uniqueness of the project names; sparse, so a project without a key yet doesn't count as a duplicate
+                new Index().on("projectNameKey", ASC).unique().sparse().named("projectNameKey_unique"),
+                // the keyset-paginated project listing, newest first
+                new Index().on("createdAt", DESC).on("_id", DESC).named("createdAt_id")
+        ));
+        indexes.put(JoinProjectRequest.class, List.of(
+                new Index().on("projectId", ASC).on("status", ASC).named("projectId_status")
+        ));
+        indexes.put(JoinCoupon.class, List.of(
+                new Index().on("coupon", ASC).named("coupon"),
+                new Index().on("requestingUserId", ASC).on("projectId", ASC).named("requestingUserId_projectId")
+        ));
+
+        /* task */
+        indexes.put(Task.class, List.of(
+                new Index().on("projectId", ASC).on("taskName", ASC).named("projectId_taskName"),
+                // also covers the projected load of the due dates by (taskStatus, dueDate)
+                new Index().on("taskStatus", ASC).on("dueDate", ASC).on("_id", ASC).named("taskStatus_dueDate"),
+                new Index().on("taskPriority", ASC).named("taskPriority"),
+                // only the tasks with a pending reminder have a watermark
+                new Index().on("reminderWatermark", ASC).sparse().named("reminderWatermark"),
+                // covers the projected task board query, no document is fetched
+                new Index().on("projectId", ASC).on("taskStatus", ASC).on("dueDate", ASC)
+                        .on("taskPriority", ASC).on("taskName", ASC).on("_id", ASC).named("taskBoard"),
+                new TextIndexDefinitionBuilder().onField("taskName", 2F).onField("description").named("taskName_description_text").build()
+        ));
+
+        /* relationships */
+        indexes.put(ProjectMembers.class, List.of(
+                new Index().on("projectId", ASC).on("userId", ASC).named("projectId_userId"),
+                // covers the projected lookup of the projects of a user
+                new Index().on("userId", ASC).on("projectId", ASC).named("userId_projectId")
+        ));
+        indexes.put(UserProjectRole.class, List.of(
+                new Index().on("userId", ASC).on("roleId", ASC).on("projectId", ASC).named("userId_roleId_projectId")
+        ));
+        indexes.put(UserRole.class, List.of(
+                new Index().on("user._id", ASC).on("roles._id", ASC).named("userId_roleId")
+        ));
+        indexes.put(TaskUser.class, List.of(
+                new Index().on("taskId", ASC).on("userId", ASC).named("taskId_userId"),
+                // one link per (task, user); also serves the queries by userId
+                new Index().on("userId", ASC).on("taskId", ASC).unique().named("userId_taskId_unique")
+        ));
+        indexes.put(ProjectTask.class, List.of(
+                new Index().on("taskId", ASC).named("taskId")
+        ));
+
+        /* scheduler */
+        indexes.put(SchedulerLease.class, List.of(
+                // removes the expired leases; the election itself only relies on the expiresAt filter
+                new Index().on("expiresAt", ASC).expire(Duration.ZERO).named("expiresAt_ttl")
+        ));
+
+        return indexes;
+    }
+
+
+    /**
+     * Creates (or confirms) every index of {@link #indexDefinitions()}. Creating an index that already exists is a no-op in MongoDB.
+     * <p>
+     * A unique index that can't be created yet, because a migration still has to remove the duplicates, is logged and skipped; the
+     * {@code MigrationRunner} ensures the indexes again once the migrations are completed. Any other error (a conflicting index, an
+     * invalid definition, a lost connection) is propagated, so the application doesn't start without its indexes.
+     *
+     * @param mongoOperations the operations to create the indexes with.
+     * @return a {@link Flux} of the names of the ensured indexes.
+     */
+    public static Flux<String> ensureIndexes(ReactiveMongoOperations mongoOperations) {
+        return Flux.fromIterable(indexDefinitions().entrySet())
+                .concatMap(entry -> Flux.fromIterable(entry.getValue())
+                        .concatMap(index -> mongoOperations.indexOps(entry.getKey()).ensureIndex(index)
+                                .onErrorResume(DuplicateKeyException.class, error -> {
+                                    log.warn("Mongo index {} on {{}} can't be created yet: {}", index.getIndexKeys(), entry.getKey().getSimpleName(), error.getMessage());
+                                    return Mono.empty();
+                                })
+                        )
+                );
+    }
+
+
+    @Bean
+    public ApplicationRunner mongoIndexInitializer(ReactiveMongoOperations mongoOperations) {
+        return args -> ensureIndexes(mongoOperations)
+                .doOnNext(indexName -> log.info("Mongo index ensured: {{}}", indexName))
+                .doOnError(error -> log.error("Error occurred while creating the mongo indexes: {}", error.getMessage()))
+                .blockLast();
+    }
+
+}
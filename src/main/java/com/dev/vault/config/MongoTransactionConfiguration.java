@@ -0,0 +1,23 @@
+package com.dev.vault.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.ReactiveMongoDatabaseFactory;
+import org.springframework.data.mongodb.ReactiveMongoTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+/**
+ * The MongoDB transactions of the writes that must be committed together (MongoDB transactions need a replica set).
+ * <p>
+ * Only a {@link TransactionalOperator} is exposed, for the explicit transactions; the transaction manager itself is not a bean,
+ * so the {@code @Transactional} annotations of the services keep their current (non-transactional) behavior.
+ */
+@Configuration
+public class MongoTransactionConfiguration {
+
+    @Bean
+    public TransactionalOperator mongoTransactionalOperator(ReactiveMongoDatabaseFactory databaseFactory) {
+        return TransactionalOperator.create(new ReactiveMongoTransactionManager(databaseFactory));
+    }
+
+}
@@ -38,15 +38,20 @@ public class ProjectManagementController {
 
     /**
      * Endpoint for getting all the members of a project.
+     * <p>
+     * The response carries the members version of the project as its ETag. A request with a matching {@code If-None-Match} header is
+     * answered {@code 304 Not Modified} by Spring before the members are ever looked up (the body is a lazy {@link Flux}).
      *
      * @param projectId id of the project that you want to see the members of.
      * @return Member of project as Flux of {@link ProjectMembersDto} which contains a list of {@link UserDto}.
      */
     @GetMapping("/members")
     public Mono<ResponseEntity<Flux<ProjectMembersDto>>> getAllMembersOfProject(@RequestParam String projectId) {
-        return Mono.just(
-                ResponseEntity.ok(projectManagementService.getAllMembersOfProject(projectId))
-        );
+        return projectManagementService.getMembersVersion(projectId)
+                .map(membersVersion -> ResponseEntity.ok()
+                        .eTag(projectId + "-" + membersVersion)
+                        .body(projectManagementService.getAllMembersOfProject(projectId))
+                );
     }
 
 }
@@ -1,14 +1,13 @@
 package com.dev.vault.controller.project;
 
 import com.dev.vault.helper.exception.ResourceNotFoundException;
+import com.dev.vault.helper.payload.response.project.ProjectPageResponse;
 import com.dev.vault.helper.payload.response.project.SearchResponse;
 import com.dev.vault.service.interfaces.project.SearchProjectService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -29,13 +28,54 @@ public class SearchController {
 
 
     /**
-     * Returns a stream of all projects.
+     * Returns a stream of all projects, followed by the newly created ones.
+     * The newly created projects carry an event ID; a client reconnecting with the {@code Last-Event-ID} header resumes after it.
      *
+     * @param lastEventId the ID of the last event received before the reconnection (optional)
+     * @param liveOnly    whether to only stream the projects created from now on; the existing ones are listed by {@code /projects}
      * @return a stream of SearchResponse objects in Server-Sent Events (SSE) format
      */
     @GetMapping(value = "/stream", produces = TEXT_EVENT_STREAM_VALUE)
-    public Flux<SearchResponse> getProjectDtosStream() {
-        return searchProjectService.listAllProjects();
+    public Flux<ServerSentEvent<SearchResponse>> getProjectDtosStream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @RequestParam(value = "liveOnly", defaultValue = "false") boolean liveOnly
+    ) {
+        return searchProjectService.listAllProjects(lastEventId, liveOnly);
+    }
+
+
+    /**
+     * Returns a page of the projects, newest first.
+     *
+     * @param cursor the {@code nextCursor} of the previous page (optional, the first page if omitted)
+     * @param size   the page size, at most 100
+     * @return a ResponseEntity containing the projects of the page and the cursor of the next page
+     */
+    @GetMapping("/projects")
+    public Mono<ResponseEntity<ProjectPageResponse>> listProjects(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return searchProjectService.listProjectPage(cursor, size)
+                .map(ResponseEntity::ok);
+    }
+
+
+    /**
+     * Returns the names of the projects starting with the given prefix, for the typeahead of the search box.
+     * Only the names are returned; the details are returned by {@code /projectName/{projectName}}.
+     *
+     * @param prefix the prefix typed so far
+     * @param limit  the maximum number of names to return, at most 10
+     * @return a ResponseEntity containing the matching project names, shortest first
+     */
+    @GetMapping("/autocomplete")
+    public Mono<ResponseEntity<List<String>>> autocompleteProjectNames(
+            @RequestParam(value = "prefix") String prefix,
+            @RequestParam(value = "limit", defaultValue = "10") int limit
+    ) {
+        return searchProjectService.autocompleteProjectNames(prefix, limit)
+                .map(ResponseEntity::ok);
     }
 
 
@@ -5,14 +5,18 @@ import com.dev.vault.helper.exception.NotLeaderOfProjectException;
 import com.dev.vault.helper.exception.NotMemberOfProjectException;
 import com.dev.vault.helper.exception.ResourceNotFoundException;
 import com.dev.vault.helper.payload.response.ApiResponse;
+import com.dev.vault.helper.payload.response.task.TaskAssignmentProgressResponse;
 import com.dev.vault.helper.payload.response.task.TaskResponse;
 import com.dev.vault.service.interfaces.task.TaskAssignmentService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST Controller for assigning tasks services.
@@ -65,6 +69,22 @@ public class TaskAssignmentController {
     }
 
 
+    /**
+     * Assigns a task to all users in a project and streams the progress as server-sent events, one event per inserted batch.
+     *
+     * @param taskId    the ID of the task to assign
+     * @param projectId the ID of the project that the task belongs to
+     * @return a Flux of TaskAssignmentProgressResponse objects with the running total of assigned users
+     */
+    @PostMapping(value = "/assignTask/all/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<TaskAssignmentProgressResponse> assignTaskToAllUserInProjectWithProgress(
+            @RequestParam("taskId") String taskId,
+            @RequestParam("projectId") String projectId
+    ) {
+        return taskAssignmentService.assignTaskToAllUsersInProjectWithProgress(taskId, projectId);
+    }
+
+
     /**
      * Unassigns a task from a user in a given project.
      *
@@ -93,19 +113,19 @@ public class TaskAssignmentController {
      * @param taskId     the ID of the task to unassign.
      * @param projectId  the ID of the project containing the task.
      * @param userIdList a List of user IDs to unassign the task from.
-     * @return a {@code Mono<ResponseEntity<ApiResponse>>} that completes when the task has been unassigned from all users.
-     * @throws ResourceNotFoundException   if the task, project or users are not found.
+     * @return a {@code Mono<ResponseEntity<Map<String, String>>>} of the outcome for each user ID, once the task has been unassigned.
+     * @throws ResourceNotFoundException   if the project is not found.
      * @throws NotLeaderOfProjectException if the user is not a leader of the project.
      * @throws NotMemberOfProjectException if the user is not a member of the project.
      */
     @DeleteMapping("/unassignTask/multipleUsers")
-    public Mono<ResponseEntity<ApiResponse>> unassignTaskFromUserList(
+    public Mono<ResponseEntity<Map<String, String>>> unassignTaskFromUserList(
             @RequestParam("taskId") String taskId,
             @RequestParam("projectId") String projectId,
             @RequestBody List<String> userIdList
     ) throws ResourceNotFoundException, NotLeaderOfProjectException, NotMemberOfProjectException {
         return taskAssignmentService.unAssignTaskFromUsersList(taskId, projectId, userIdList)
-                .then(Mono.just(ResponseEntity.ok(new ApiResponse("Task unassigned from users successfully.", true))));
+                .map(ResponseEntity::ok);
     }
 
 
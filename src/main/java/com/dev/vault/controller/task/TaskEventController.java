@@ -0,0 +1,36 @@
+package com.dev.vault.controller.task;
+
+import com.dev.vault.helper.payload.response.task.TaskEventResponse;
+import com.dev.vault.service.interfaces.task.TaskEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+
+/**
+ * REST controller for streaming the task events to the members of the projects.
+ */
+@RestController
+@RequestMapping("/api/v1/task/events")
+@RequiredArgsConstructor
+public class TaskEventController {
+
+    private final TaskEventService taskEventService;
+
+
+    /**
+     * Streams the events of the tasks of the projects the current user is a member of, as server-sent events:
+     * tasks going overdue and status changes.<br>
+     * The events come from a change stream on the tasks, so the changes made on any node are streamed, once committed.
+     * Only the events occurring while the client is connected are streamed; they aren't replayed on reconnection.
+     *
+     * @return a never-ending Flux of TaskEventResponse objects
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<TaskEventResponse> streamTaskEvents() {
+        return taskEventService.streamTaskEvents();
+    }
+
+}
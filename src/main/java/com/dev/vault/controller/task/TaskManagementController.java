@@ -6,6 +6,7 @@ import com.dev.vault.helper.exception.ResourceAlreadyExistsException;
 import com.dev.vault.helper.exception.ResourceNotFoundException;
 import com.dev.vault.helper.payload.request.task.TaskRequest;
 import com.dev.vault.helper.payload.response.task.TaskResponse;
+import com.dev.vault.helper.payload.response.task.TaskSummaryResponse;
 import com.dev.vault.model.enums.TaskPriority;
 import com.dev.vault.model.enums.TaskStatus;
 import com.dev.vault.service.interfaces.task.TaskManagementService;
@@ -70,6 +71,47 @@ public class TaskManagementController {
     }
 
 
+    /**
+     * Searches for tasks by keywords in their name and description, most relevant first.
+     *
+     * @param keywords  the keywords to search for
+     * @param status    the status of the tasks to search for
+     * @param priority  the priority of the tasks to search for
+     * @param projectId the ID of the project to search for tasks in
+     * @param page      the zero-based page number
+     * @param size      the page size
+     * @return a Mono of ResponseEntity containing a Flux of TaskResponse objects and an HTTP status code
+     */
+    @GetMapping("/searchTasks/text")
+    public Mono<ResponseEntity<Flux<TaskResponse>>> searchTasksByText(
+            @RequestParam(value = "keywords") String keywords,
+            @RequestParam(value = "status", required = false) TaskStatus status,
+            @RequestParam(value = "priority", required = false) TaskPriority priority,
+            @RequestParam(value = "projectId", required = false) String projectId,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        return Mono.just(
+                ResponseEntity.ok(taskService.searchTasksByText(keywords, status, priority, projectId, page, size))
+        );
+    }
+
+
+    /**
+     * Lists the task board of a project: a lightweight summary of every task with the IDs of its assignees.
+     *
+     * @param projectId the ID of the project.
+     * @return a Mono of ResponseEntity containing a Flux of TaskSummaryResponse objects and an HTTP status code
+     * @throws ResourceNotFoundException   if the project is not found.
+     * @throws NotMemberOfProjectException if the current user is not a member of the project.
+     */
+    @GetMapping("/board")
+    public Mono<ResponseEntity<Flux<TaskSummaryResponse>>> getProjectTaskBoard(@RequestParam String projectId)
+            throws ResourceNotFoundException, NotMemberOfProjectException {
+        return Mono.just(ResponseEntity.ok(taskService.getProjectTaskBoard(projectId)));
+    }
+
+
     /**
      * Updates the details of an existing task.
      *
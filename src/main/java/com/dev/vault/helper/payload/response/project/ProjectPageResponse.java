@@ -0,0 +1,19 @@
+package com.dev.vault.helper.payload.response.project;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProjectPageResponse {
+
+    private List<SearchResponse> projects;
+
+    /* the cursor of the next page; null on the last page */
+    private String nextCursor;
+
+}
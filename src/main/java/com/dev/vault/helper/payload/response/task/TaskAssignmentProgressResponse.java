@@ -0,0 +1,22 @@
+package com.dev.vault.helper.payload.response.task;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Progress of assigning a task to all the members of a project, emitted once per inserted batch.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskAssignmentProgressResponse {
+
+    private String taskId;
+    private int batch;
+    private List<String> assignedUserIds;
+    private long totalAssigned;
+
+}
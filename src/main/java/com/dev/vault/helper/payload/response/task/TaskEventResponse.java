@@ -0,0 +1,26 @@
+package com.dev.vault.helper.payload.response.task;
+
+import com.dev.vault.model.enums.TaskEventType;
+import com.dev.vault.model.enums.TaskStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A change of a task pushed to the members of its project, e.g. the task has gone overdue.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskEventResponse {
+
+    private TaskEventType eventType;
+    private String taskId;
+    private String taskName;
+    private String projectId;
+    private TaskStatus taskStatus;
+    private LocalDateTime occurredAt;
+
+}
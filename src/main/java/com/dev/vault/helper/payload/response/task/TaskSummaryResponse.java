@@ -0,0 +1,29 @@
+package com.dev.vault.helper.payload.response.task;
+
+import com.dev.vault.model.enums.TaskPriority;
+import com.dev.vault.model.enums.TaskStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Lightweight view of a task for the project task board; only the IDs of the assignees, no hydrated users or project.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class TaskSummaryResponse {
+
+    private String taskId;
+    private String taskName;
+    private TaskStatus taskStatus;
+    private TaskPriority taskPriority;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm")
+    private LocalDateTime dueDate;
+    private List<String> assigneeIds;
+
+}
@@ -0,0 +1,49 @@
+package com.dev.vault.migration;
+
+import com.dev.vault.model.domain.relationship.TaskUser;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.stereotype.Component;
+
+/**
+ * Removes the duplicate {@link TaskUser} links created by concurrent assignments, so the unique {@code userId_taskId_unique}
+ * index can be created. The first link of every (taskId, userId) pair in {@code _id} order is kept.
+ * <p>
+ * Every link deletes the later links of its pair; deleting them again on a re-applied range is a no-op.
+ */
+@Component
+public class DeduplicateTaskUserMigration implements Migration {
+
+    @Override
+    public int version() {
+        return 3;
+    }
+
+    @Override
+    public String description() {
+        return "deduplicate TaskUser links";
+    }
+
+    @Override
+    public String collectionName() {
+        return "taskUser";
+    }
+
+    @Override
+    public Bson filter() {
+        return Filters.exists("taskId");
+    }
+
+    @Override
+    public WriteModel<Document> migrate(Document document) {
+        return new DeleteManyModel<>(Filters.and(
+                Filters.eq("taskId", document.get("taskId")),
+                Filters.eq("userId", document.get("userId")),
+                Filters.gt("_id", document.get("_id"))
+        ));
+    }
+
+}
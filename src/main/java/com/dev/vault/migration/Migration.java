@@ -0,0 +1,50 @@
+package com.dev.vault.migration;
+
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+/**
+ * A versioned, document-by-document migration of one collection, applied by the {@link MigrationRunner}.
+ * <p>
+ * The runner walks the documents matching {@link #filter()} in {@code _id} order and bulk-writes the models returned by
+ * {@link #migrate(Document)}. Migrating a document twice must be harmless (usually because a migrated document no longer
+ * matches the filter), since a range can be applied again by a second node, or after a crash between the bulk write and
+ * the progress save.
+ */
+public interface Migration {
+
+    /**
+     * @return the unique version of this migration. Migrations are applied in ascending version order.
+     */
+    int version();
+
+    String description();
+
+    String collectionName();
+
+    /**
+     * @return the filter matching the documents that still have the old shape.
+     */
+    Bson filter();
+
+    /**
+     * Builds the write that migrates one document to the new shape.
+     *
+     * @param document a document in the old shape, as stored.
+     * @return the write model migrating the document, usually an {@code UpdateOneModel} on its {@code _id}.
+     */
+    WriteModel<Document> migrate(Document document);
+
+
+    /**
+     * Returns the {@code _id} of an embedded document as a string, converting an {@code ObjectId} to its hex form.
+     *
+     * @param embedded the embedded document, may be {@code null}.
+     * @return the string ID, or {@code null} if there is no embedded document.
+     */
+    static String stringId(Document embedded) {
+        return embedded == null || embedded.get("_id") == null ? null : embedded.get("_id").toString();
+    }
+
+}
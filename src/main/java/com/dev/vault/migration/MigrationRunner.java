@@ -0,0 +1,214 @@
+package com.dev.vault.migration;
+
+import com.dev.vault.config.MongoIndexConfiguration;
+import com.dev.vault.model.domain.migration.MigrationState;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.dev.vault.model.enums.MigrationStatus.COMPLETED;
+
+/**
+ * Applies the {@link Migration} beans in version order, in the background, while the application keeps serving requests.
+ * <p>
+ * Each migration walks its collection in {@code _id} ranges of {@code migration.batch-size} documents:
+ * <ol>
+ *     <li>The upper bound of the next range is read from the {@code _id} index alone (covered, skip + first).</li>
+ *     <li>The documents of that range still matching {@link Migration#filter()} are loaded and migrated with one unordered bulk write.
+ *     A write rejected by a unique index is logged and skipped; any other write error fails the migration.</li>
+ *     <li>The end of the range is saved in {@link MigrationState}, so a restarted node resumes where the last one stopped.</li>
+ * </ol>
+ * Once every migration is completed, the indexes of {@link MongoIndexConfiguration} are ensured again, for the ones that
+ * couldn't be created on startup before their migration.
+ * <p>
+ * Every query is bounded by the batch size, whatever the share of already migrated documents, and the runner waits
+ * {@code migration.throttle} between two batches to keep the extra load on the cluster flat.
+ * <p>
+ * Progress is exposed as Micrometer meters tagged with the migration version: {@code devvault.migration.documents} (counter,
+ * its rate is the migration rate), {@code devvault.migration.batch} (timer), {@code devvault.migration.processed} and
+ * {@code devvault.migration.estimated.total} (gauges).
+ * <p>
+ * The range cursor assumes one {@code _id} type per collection; MongoDB compares {@code _id}s of different BSON types by type first.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MigrationRunner implements ApplicationRunner {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final List<Migration> migrations;
+    private final MeterRegistry meterRegistry;
+    private final Map<Integer, AtomicLong> processedDocuments = new ConcurrentHashMap<>();
+    private final Map<Integer, AtomicLong> estimatedDocuments = new ConcurrentHashMap<>();
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    @Value("${migration.batch-size}")
+    private int batchSize;
+
+    @Value("${migration.throttle}")
+    private Duration throttle;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Flux.fromIterable(migrations)
+                .sort(Comparator.comparingInt(Migration::version))
+                .concatMap(this::apply)
+                .doOnNext(state -> log.info("✅ Migration {{}} ({}) completed: {{}} documents processed, {{}} modified",
+                        state.getVersion(), state.getDescription(), state.getProcessedCount(), state.getModifiedCount()))
+
+                // the indexes that depend on a migration (e.g. unique ones) can only be created now
+                .thenMany(MongoIndexConfiguration.ensureIndexes(mongoTemplate))
+                .subscribe(
+                        indexName -> log.info("Mongo index ensured after the migrations: {{}}", indexName),
+                        error -> log.error("❌ Error occurred while applying the migrations: {}", error.getMessage())
+                );
+    }
+
+
+    /**
+     * Applies one migration, resuming from its saved {@link MigrationState} if there is one.
+     *
+     * @param migration the migration to apply.
+     * @return a {@link Mono} of the completed state, or an empty {@link Mono} if the migration was already completed.
+     */
+    public Mono<MigrationState> apply(Migration migration) {
+        return mongoTemplate.findById(migration.version(), MigrationState.class)
+                .defaultIfEmpty(new MigrationState(migration.version(), migration.description()))
+                .filter(state -> state.getStatus() != COMPLETED)
+                .zipWith(mongoTemplate.getCollection(migration.collectionName()))
+                .flatMap(stateAndCollection -> {
+                    MigrationState state = stateAndCollection.getT1();
+                    MongoCollection<Document> collection = stateAndCollection.getT2();
+
+                    // register the progress gauges; the estimate only reads the collection metadata
+                    return Mono.from(collection.estimatedDocumentCount())
+                            .doOnNext(estimated -> registerGauges(migration, state, estimated))
+                            .doOnNext(estimated -> log.info("Applying migration {{}} ({}) to {{}}, ~{} documents, resuming after {{}}",
+                                    migration.version(), migration.description(), migration.collectionName(), estimated, state.getLastProcessedId()))
+                            // migrate batch after batch until the last range is done
+                            .then(Mono.just(state)
+                                    .expand(current -> current.getStatus() == COMPLETED
+                                            ? Mono.empty()
+                                            : migrateNextBatch(migration, collection, current).delaySubscription(throttle))
+                                    .last());
+                });
+    }
+
+
+    private Mono<MigrationState> migrateNextBatch(Migration migration, MongoCollection<Document> collection, MigrationState state) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            Bson after = state.getLastProcessedId() == null ? Filters.empty() : Filters.gt("_id", state.getLastProcessedId());
+
+            // find the upper bound of the next range from the _id index; no upper bound means this is the last range
+            return Mono.from(collection.find(after)
+                            .projection(Projections.include("_id"))
+                            .sort(Sorts.ascending("_id"))
+                            .skip(batchSize - 1)
+                            .first())
+                    .map(upperBound -> Optional.of(upperBound.get("_id")))
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(upperId -> {
+                        Bson range = upperId.map(id -> Filters.and(after, Filters.lte("_id", id))).orElse(after);
+
+                        // migrate the documents of the range that still have the old shape
+                        return Flux.from(collection.find(Filters.and(range, migration.filter())))
+                                .map(migration::migrate)
+                                .collectList()
+                                .flatMap(writes -> bulkWrite(collection, writes)
+                                        .map(modified -> advance(migration, state, upperId.orElse(null), writes.size(), modified)));
+                    })
+                    .flatMap(mongoTemplate::save)
+                    .doOnNext(saved -> {
+                        long nanos = sample.stop(Timer.builder("devvault.migration.batch")
+                                .tag("version", String.valueOf(migration.version()))
+                                .register(meterRegistry));
+                        log.info("Migration {{}}: {{}} documents processed so far, batch took {{}} ms",
+                                migration.version(), saved.getProcessedCount(), Duration.ofNanos(nanos).toMillis());
+                    });
+        });
+    }
+
+
+    private Mono<Integer> bulkWrite(MongoCollection<Document> collection, List<WriteModel<Document>> writes) {
+        if (writes.isEmpty())
+            return Mono.just(0);
+        return Mono.from(collection.bulkWrite(writes, new BulkWriteOptions().ordered(false)))
+                .map(BulkWriteResult::getModifiedCount)
+                // the other writes of an unordered bulk write are applied anyway
+                .onErrorResume(MongoBulkWriteException.class, error -> {
+                    if (error.getWriteConcernError() != null || error.getWriteErrors().stream().anyMatch(writeError -> writeError.getCode() != DUPLICATE_KEY))
+                        return Mono.error(error);
+                    log.warn("{{}} migrated documents would duplicate a unique key and are left as they are", error.getWriteErrors().size());
+                    return Mono.just(error.getWriteResult().getModifiedCount());
+                });
+    }
+
+
+    private MigrationState advance(Migration migration, MigrationState state, Object upperId, int processed, int modified) {
+        state.setProcessedCount(state.getProcessedCount() + processed);
+        state.setModifiedCount(state.getModifiedCount() + modified);
+        state.setUpdatedAt(LocalDateTime.now());
+
+        if (upperId == null) {
+            state.setStatus(COMPLETED);
+            state.setCompletedAt(state.getUpdatedAt());
+        } else {
+            state.setLastProcessedId(upperId);
+        }
+
+        processedDocuments.get(migration.version()).set(state.getProcessedCount());
+        Counter.builder("devvault.migration.documents")
+                .tag("version", String.valueOf(migration.version()))
+                .register(meterRegistry)
+                .increment(processed);
+        return state;
+    }
+
+
+    private void registerGauges(Migration migration, MigrationState state, long estimated) {
+        String version = String.valueOf(migration.version());
+
+        AtomicLong processed = processedDocuments.computeIfAbsent(migration.version(), ignored -> new AtomicLong());
+        processed.set(state.getProcessedCount());
+        estimatedDocuments.computeIfAbsent(migration.version(), ignored -> new AtomicLong()).set(estimated);
+
+        Gauge.builder("devvault.migration.processed", processed, AtomicLong::get)
+                .tag("version", version)
+                .register(meterRegistry);
+        Gauge.builder("devvault.migration.estimated.total", estimatedDocuments.get(migration.version()), AtomicLong::get)
+                .tag("version", version)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.dev.vault.migration;
+
+import com.dev.vault.model.domain.project.Project;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sets the unique {@link Project#getProjectNameKey() projectNameKey} of the projects created before it existed.
+ * <p>
+ * When two old projects have the same key (created concurrently past the former existence check), the unique
+ * {@code projectNameKey_unique} index rejects the second write and the runner skips it: that project keeps no key, which the
+ * sparse index ignores, while its name stays taken by the first one.
+ */
+@Component
+public class ProjectNameKeyMigration implements Migration {
+
+    @Override
+    public int version() {
+        return 5;
+    }
+
+    @Override
+    public String description() {
+        return "backfill the unique project name key";
+    }
+
+    @Override
+    public String collectionName() {
+        return "project";
+    }
+
+    @Override
+    public Bson filter() {
+        return Filters.and(
+                Filters.exists("projectNameKey", false),
+                Filters.exists("projectName")
+        );
+    }
+
+    @Override
+    public WriteModel<Document> migrate(Document document) {
+        return new UpdateOneModel<>(Filters.eq("_id", document.get("_id")),
+                Updates.set("projectNameKey", Project.toNameKey(document.getString("projectName"))));
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.dev.vault.migration;
+
+import com.dev.vault.model.domain.relationship.ProjectTask;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.stereotype.Component;
+
+import static com.dev.vault.migration.Migration.stringId;
+
+/**
+ * Migrates the {@link ProjectTask} documents embedding the complete {@code Project} and {@code Task} to the slim shape:<br>
+ * {@code {project: {...}, task: {...}}} to {@code {projectId, taskId, projectName, taskName}}.
+ */
+@Component
+public class SlimProjectTaskMigration implements Migration {
+
+    @Override
+    public int version() {
+        return 2;
+    }
+
+    @Override
+    public String description() {
+        return "slim ProjectTask link documents";
+    }
+
+    @Override
+    public String collectionName() {
+        return "projectTask";
+    }
+
+    @Override
+    public Bson filter() {
+        return Filters.exists("task");
+    }
+
+    @Override
+    public WriteModel<Document> migrate(Document document) {
+        Document project = document.get("project", Document.class);
+        Document task = document.get("task", Document.class);
+
+        return new UpdateOneModel<>(Filters.eq("_id", document.get("_id")), Updates.combine(
+                Updates.set("projectId", stringId(project)),
+                Updates.set("taskId", stringId(task)),
+                Updates.set("projectName", project == null ? null : project.getString("projectName")),
+                Updates.set("taskName", task == null ? null : task.getString("taskName")),
+                Updates.unset("project"),
+                Updates.unset("task")
+        ));
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.dev.vault.migration;
+
+import com.dev.vault.model.domain.relationship.TaskUser;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.stereotype.Component;
+
+import static com.dev.vault.migration.Migration.stringId;
+
+/**
+ * Migrates the {@link TaskUser} documents embedding the complete {@code User} and {@code Task} to the slim shape:<br>
+ * {@code {user: {...}, task: {...}}} to {@code {taskId, userId, username, taskName}}.
+ */
+@Component
+public class SlimTaskUserMigration implements Migration {
+
+    @Override
+    public int version() {
+        return 1;
+    }
+
+    @Override
+    public String description() {
+        return "slim TaskUser link documents";
+    }
+
+    @Override
+    public String collectionName() {
+        return "taskUser";
+    }
+
+    @Override
+    public Bson filter() {
+        return Filters.exists("task");
+    }
+
+    @Override
+    public WriteModel<Document> migrate(Document document) {
+        Document task = document.get("task", Document.class);
+        Document user = document.get("user", Document.class);
+
+        return new UpdateOneModel<>(Filters.eq("_id", document.get("_id")), Updates.combine(
+                Updates.set("taskId", stringId(task)),
+                Updates.set("userId", stringId(user)),
+                // the same value as TaskUser(Task, User): User#getUsername() is the email
+                Updates.set("username", user == null ? null : user.getString("email")),
+                Updates.set("taskName", task == null ? null : task.getString("taskName")),
+                Updates.unset("task"),
+                Updates.unset("user")
+        ));
+    }
+
+}
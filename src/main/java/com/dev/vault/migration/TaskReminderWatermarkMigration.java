@@ -0,0 +1,62 @@
+package com.dev.vault.migration;
+
+import com.dev.vault.model.domain.task.Task;
+import com.dev.vault.util.task.TaskReminderUtils;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * Sets the first {@link Task#getReminderWatermark() reminder watermark} of the {@code IN_PROGRESS} tasks created before the
+ * reminders existed, so they are reminded like the new ones.
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskReminderWatermarkMigration implements Migration {
+
+    private final TaskReminderUtils taskReminderUtils;
+
+    @Override
+    public int version() {
+        return 4;
+    }
+
+    @Override
+    public String description() {
+        return "seed the reminder watermark of the tasks in progress";
+    }
+
+    @Override
+    public String collectionName() {
+        return "task";
+    }
+
+    @Override
+    public Bson filter() {
+        return Filters.and(
+                Filters.eq("taskStatus", "IN_PROGRESS"),
+                Filters.exists("reminderWatermark", false),
+                Filters.gt("dueDate", new Date())
+        );
+    }
+
+    @Override
+    public WriteModel<Document> migrate(Document document) {
+        // the dates are stored in the system time zone by the Spring Data mapping
+        LocalDateTime dueDate = LocalDateTime.ofInstant(document.getDate("dueDate").toInstant(), ZoneId.systemDefault());
+        LocalDateTime watermark = taskReminderUtils.firstReminderAt(dueDate);
+
+        return new UpdateOneModel<>(Filters.eq("_id", document.get("_id")),
+                Updates.set("reminderWatermark", watermark == null ? null : Date.from(watermark.atZone(ZoneId.systemDefault()).toInstant())));
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.dev.vault.model.domain.migration;
+
+import com.dev.vault.model.enums.MigrationStatus;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of one versioned migration. It's saved after every batch, so a restarted node resumes after {@link #lastProcessedId}.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document
+public class MigrationState {
+
+    @Id
+    private Integer version;
+    private String description;
+    private MigrationStatus status;
+
+    /* progress */
+    private Object lastProcessedId;
+    private long processedCount;
+    private long modifiedCount;
+    /* end of progress */
+
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    public MigrationState(Integer version, String description) {
+        this.version = version;
+        this.description = description;
+        this.status = MigrationStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+}
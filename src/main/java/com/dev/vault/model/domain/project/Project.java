@@ -10,6 +10,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 @Getter
 @Setter
@@ -23,10 +24,14 @@ public class Project {
     private String projectId;
 
     private String projectName;
+    /* the case-insensitive key of the name, unique */
+    private String projectNameKey;
     private String description;
     @CreatedDate
     private LocalDateTime createdAt;
     private int memberCount;
+    /* incremented whenever a member joins or leaves the project; the ETag of the member listing */
+    private long membersVersion;
 
     /* relationships */
     private String leaderEmail;
@@ -38,4 +43,11 @@ public class Project {
     public void incrementMemberCount() {
         this.memberCount++;
     }
+
+    /**
+     * Returns the unique key of a project name: trimmed, lowercase, and with the runs of whitespace collapsed to one space.
+     */
+    public static String toNameKey(String projectName) {
+        return projectName == null ? null : projectName.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
 }
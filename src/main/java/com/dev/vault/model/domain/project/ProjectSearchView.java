@@ -0,0 +1,34 @@
+package com.dev.vault.model.domain.project;
+
+import com.dev.vault.helper.payload.request.user.UserDto;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The search response of a {@link Project}, pre-joined with its members, so a project search is a single read by ID.
+ * Maintained by {@code ProjectSearchViewUtils}.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document
+public class ProjectSearchView {
+
+    @Id
+    private String projectId;
+
+    private String projectName;
+    private String description;
+    private String leaderEmail;
+
+    /* the number of members of the view; members are only ever added, so a view with more members is the newer one */
+    private int memberCount;
+    private List<UserDto> members = new ArrayList<>();
+
+}
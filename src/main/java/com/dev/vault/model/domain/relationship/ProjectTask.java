@@ -8,6 +8,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
  * Manages the relationship between {@link Project} and {@link Task}.
+ * Only the IDs are stored, plus the few fields that are displayed together with the relationship.
  */
 @Getter
 @Setter
@@ -21,8 +22,20 @@ public class ProjectTask {
     private String projectTaskId;
 
     /* relationships */
-    private Project project;
-    private Task task;
+    private String projectId;
+    private String taskId;
     /* end of relationships */
 
+    /* denormalised display fields */
+    private String projectName;
+    private String taskName;
+    /* end of denormalised display fields */
+
+    public ProjectTask(Project project, Task task) {
+        this.projectId = project.getProjectId();
+        this.taskId = task.getTaskId();
+        this.projectName = project.getProjectName();
+        this.taskName = task.getTaskName();
+    }
+
 }
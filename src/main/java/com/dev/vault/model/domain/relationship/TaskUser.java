@@ -8,6 +8,7 @@ import org.springframework.data.mongodb.core.mapping.Document;
 
 /**
  * Manages the relationship between {@link User} and {@link Task}.
+ * Only the IDs are stored, plus the few fields that are displayed together with the assignment.
  */
 @Getter
 @Setter
@@ -21,8 +22,21 @@ public class TaskUser {
     private String taskUserId;
 
     /* relationships */
-    private User user;
-    private Task task;
+    private String taskId;
+    private String userId;
     /* end of relationships */
 
+    /* denormalised display fields */
+    /* the email of the user, i.e. User#getUsername() */
+    private String username;
+    private String taskName;
+    /* end of denormalised display fields */
+
+    public TaskUser(Task task, User user) {
+        this.taskId = task.getTaskId();
+        this.userId = user.getUserId();
+        this.username = user.getUsername();
+        this.taskName = task.getTaskName();
+    }
+
 }
@@ -0,0 +1,27 @@
+package com.dev.vault.model.domain.scheduler;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * A lease on the scheduled jobs; the node holding an unexpired lease is the only one running them.
+ * The lease is renewed by its owner before {@link #expiresAt}, and removed by a TTL index once it has expired.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document
+public class SchedulerLease {
+
+    @Id
+    private String name;
+    private String owner;
+
+    private LocalDateTime renewedAt;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,28 @@
+package com.dev.vault.model.domain.stream;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * The resume token of the last processed event of a change stream, so a restarted node resumes the stream where it stopped.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Document
+public class ChangeStreamCheckpoint {
+
+    @Id
+    private String streamName;
+
+    /* the resume token as extended JSON, and the cluster time of its event */
+    private String resumeToken;
+    private long lastEventId;
+
+    private LocalDateTime updatedAt;
+}
@@ -7,6 +7,7 @@ import lombok.*;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Transient;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.TextScore;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -32,6 +33,15 @@ public class Task {
     private TaskPriority taskPriority;
     private boolean hasOverdue;
 
+    /* the date and time the next due-date reminder is due; unset once there is no reminder left */
+    private LocalDateTime reminderWatermark;
+
+    /* the date and time of the last status change; only ever written with a $set, which the task events are streamed from */
+    private LocalDateTime statusChangedAt;
+
+    @TextScore
+    private Float score;
+
     /* relationships */
     @Transient
     private Set<TaskUser> assignedTaskUser = new HashSet<>();
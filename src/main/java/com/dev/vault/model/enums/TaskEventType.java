@@ -0,0 +1,6 @@
+package com.dev.vault.model.enums;
+
+public enum TaskEventType {
+    OVERDUE,
+    STATUS_CHANGED
+}
@@ -0,0 +1,21 @@
+package com.dev.vault.repository.mappings;
+
+import com.dev.vault.model.domain.relationship.ProjectMembers;
+import reactor.core.publisher.Flux;
+
+/**
+ * Set-based queries between {@link ProjectMembers} and {@code TaskUser}. Implemented by {@link ProjectMembersAssignmentRepositoryImpl}
+ * and mixed into {@link ProjectMembersReactiveRepository}.
+ */
+public interface ProjectMembersAssignmentRepository {
+
+    /**
+     * Computes "members of the project minus the users already assigned to the task" with one aggregation on the server.
+     *
+     * @param projectId the ID of the project.
+     * @param taskId    the ID of the task.
+     * @return a {@link Flux} of the IDs of the members the task is not assigned to yet.
+     */
+    Flux<String> findUnassignedMemberIds(String projectId, String taskId);
+
+}
@@ -0,0 +1,47 @@
+package com.dev.vault.repository.mappings;
+
+import com.dev.vault.model.domain.relationship.ProjectMembers;
+import com.dev.vault.model.domain.relationship.TaskUser;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+public class ProjectMembersAssignmentRepositoryImpl implements ProjectMembersAssignmentRepository {
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    @Override
+    public Flux<String> findUnassignedMemberIds(String projectId, String taskId) {
+        // look up at most one TaskUser of the member for the task; the sub-pipeline uses the taskId_userId index
+        AggregationOperation lookupAssignment = context -> new Document("$lookup", new Document()
+                .append("from", mongoOperations.getCollectionName(TaskUser.class))
+                .append("let", new Document("userId", "$userId"))
+                .append("pipeline", List.of(
+                        new Document("$match", new Document("$expr", new Document("$and", List.of(
+                                new Document("$eq", List.of("$taskId", taskId)),
+                                new Document("$eq", List.of("$userId", "$$userId"))
+                        )))),
+                        new Document("$limit", 1),
+                        new Document("$project", new Document("_id", 1))
+                ))
+                .append("as", "assignments"));
+
+        AggregationOperation keepUnassigned = context -> new Document("$match", new Document("assignments", new Document("$size", 0)));
+        AggregationOperation userIdOnly = context -> new Document("$project", new Document("_id", 0).append("userId", 1));
+
+        return mongoOperations.aggregate(
+                        Aggregation.newAggregation(Aggregation.match(where("projectId").is(projectId)), lookupAssignment, keepUnassigned, userIdOnly),
+                        mongoOperations.getCollectionName(ProjectMembers.class),
+                        Document.class)
+                .map(document -> document.getString("userId"));
+    }
+
+}
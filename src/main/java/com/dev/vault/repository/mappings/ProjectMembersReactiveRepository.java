@@ -1,13 +1,24 @@
 package com.dev.vault.repository.mappings;
 
 import com.dev.vault.model.domain.relationship.ProjectMembers;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface ProjectMembersReactiveRepository extends ReactiveMongoRepository<ProjectMembers, String> {
+import java.util.Collection;
+
+public interface ProjectMembersReactiveRepository extends ReactiveMongoRepository<ProjectMembers, String>, ProjectMembersAssignmentRepository {
     Flux<ProjectMembers> findByProjectId(String projectId);
 
     Mono<ProjectMembers> findByProjectIdAndUserId(String projectId, String userId);
 
+    Flux<ProjectMembers> findByProjectIdAndUserIdIn(String projectId, Collection<String> userIds);
+
+    @Query(value = "{ 'userId' : ?0 }", fields = "{ '_id' : 0, 'projectId' : 1 }")
+    Flux<ProjectMembers> findProjectIdsByUserId(String userId);
+
+    @Query(value = "{ 'projectId' : { '$in' : ?0 } }", fields = "{ '_id' : 0, 'projectId' : 1, 'userId' : 1 }")
+    Flux<ProjectMembers> findMembershipsByProjectIdIn(Collection<String> projectIds);
+
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.dev.vault.repository.mappings;
 
 import com.dev.vault.model.domain.relationship.ProjectTask;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
-import reactor.core.publisher.Flux;
+import org.springframework.data.mongodb.repository.Update;
 import reactor.core.publisher.Mono;
 
 public interface ProjectTaskReactiveRepository extends ReactiveMongoRepository<ProjectTask, String> {
-    Mono<ProjectTask> findProjectTaskByTask_TaskId(String taskId);
-    Flux<ProjectTask> findByTask_TaskId(String taskId);
+    Mono<ProjectTask> findByTaskId(String taskId);
+
+    @Query("{ 'taskId' : ?0 }")
+    @Update("{ '$set' : { 'taskName' : ?1 } }")
+    Mono<Long> updateTaskNameByTaskId(String taskId, String taskName);
 }
@@ -0,0 +1,23 @@
+package com.dev.vault.repository.mappings;
+
+import com.dev.vault.model.domain.relationship.TaskUser;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Idempotent assignment writes on {@link TaskUser}, relying on the unique {@code userId_taskId} index. Implemented by
+ * {@link TaskUserAssignmentRepositoryImpl} and mixed into {@link TaskUserReactiveRepository}.
+ */
+public interface TaskUserAssignmentRepository {
+
+    /**
+     * Inserts the links that don't exist yet with one unordered bulk write of {@code $setOnInsert} upserts keyed by
+     * (taskId, userId). Existing links, including the ones inserted concurrently by another request, are left untouched.
+     *
+     * @param taskUsers the links to insert.
+     * @return a {@link Mono} of the links that were actually inserted, with their IDs; the others already existed.
+     */
+    Mono<List<TaskUser>> insertAllIfAbsent(List<TaskUser> taskUsers);
+
+}
@@ -0,0 +1,64 @@
+package com.dev.vault.repository.mappings;
+
+import com.dev.vault.model.domain.relationship.TaskUser;
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.mongodb.client.model.*;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TaskUserAssignmentRepositoryImpl implements TaskUserAssignmentRepository {
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    @Override
+    public Mono<List<TaskUser>> insertAllIfAbsent(List<TaskUser> taskUsers) {
+        if (taskUsers.isEmpty())
+            return Mono.just(List.of());
+
+        // the filter fields are copied into the inserted document, the rest is only written on insert
+        List<WriteModel<Document>> upserts = taskUsers.stream()
+                .<WriteModel<Document>>map(taskUser -> new UpdateOneModel<>(
+                        Filters.and(Filters.eq("taskId", taskUser.getTaskId()), Filters.eq("userId", taskUser.getUserId())),
+                        Updates.combine(
+                                Updates.setOnInsert("username", taskUser.getUsername()),
+                                Updates.setOnInsert("taskName", taskUser.getTaskName()),
+                                Updates.setOnInsert("_class", TaskUser.class.getName())
+                        ),
+                        new UpdateOptions().upsert(true)))
+                .toList();
+
+        return mongoOperations.getCollection(mongoOperations.getCollectionName(TaskUser.class))
+                .flatMap(collection -> Mono.from(collection.bulkWrite(upserts, new BulkWriteOptions().ordered(false))))
+                .map(BulkWriteResult::getUpserts)
+
+                // two concurrent upserts of the same link: the unique index rejects the second one, it's a duplicate like any other
+                .onErrorResume(MongoBulkWriteException.class, error -> onlyDuplicateKeyErrors(error)
+                        ? Mono.just(error.getWriteResult().getUpserts())
+                        : Mono.error(error))
+                .map(inserted -> inserted.stream()
+                        .map(upsert -> withId(taskUsers.get(upsert.getIndex()), upsert))
+                        .toList());
+    }
+
+
+    private static boolean onlyDuplicateKeyErrors(MongoBulkWriteException error) {
+        return error.getWriteConcernError() == null && error.getWriteErrors().stream()
+                .allMatch(writeError -> ErrorCategory.fromErrorCode(writeError.getCode()) == ErrorCategory.DUPLICATE_KEY);
+    }
+
+    private static TaskUser withId(TaskUser taskUser, BulkWriteUpsert upsert) {
+        taskUser.setTaskUserId(upsert.getId().isObjectId()
+                ? upsert.getId().asObjectId().getValue().toHexString()
+                : upsert.getId().asString().getValue());
+        return taskUser;
+    }
+
+}
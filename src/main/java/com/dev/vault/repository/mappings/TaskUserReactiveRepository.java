@@ -1,20 +1,32 @@
 package com.dev.vault.repository.mappings;
 
 import com.dev.vault.model.domain.relationship.TaskUser;
-import com.dev.vault.model.domain.task.Task;
-import com.dev.vault.model.domain.user.User;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface TaskUserReactiveRepository extends ReactiveMongoRepository<TaskUser, String> {
-    Mono<Boolean> existsByTaskAndUser(Task task, User user);
+import java.util.Collection;
 
-    Flux<TaskUser> findByUser_UserId(String userId);
+public interface TaskUserReactiveRepository extends ReactiveMongoRepository<TaskUser, String>, TaskUserAssignmentRepository {
+    Mono<Boolean> existsByTaskIdAndUserId(String taskId, String userId);
 
-    Flux<TaskUser> findAllByTask_TaskId(String taskId);
+    Flux<TaskUser> findByUserId(String userId);
 
-    Mono<TaskUser> findTaskUserByTask_TaskId(String taskId);
+    Flux<TaskUser> findAllByTaskId(String taskId);
 
-    Mono<TaskUser> findByTask_TaskIdAndUser_UserId(String taskId, String userId);
+    Mono<TaskUser> findByTaskIdAndUserId(String taskId, String userId);
+
+    /* a find, then a delete by _id $in of the found links: the deleted links tell which users were assigned */
+    Flux<TaskUser> deleteByTaskIdAndUserIdIn(String taskId, Collection<String> userIds);
+
+    Mono<Long> deleteByTaskId(String taskId);
+
+    @Query("{ 'taskId' : ?0 }")
+    @Update("{ '$set' : { 'taskName' : ?1 } }")
+    Mono<Long> updateTaskNameByTaskId(String taskId, String taskName);
+
+    @Query(value = "{ 'taskId' : { '$in' : ?0 } }", fields = "{ '_id' : 0, 'taskId' : 1, 'userId' : 1 }")
+    Flux<TaskUser> findAssigneesByTaskIdIn(Collection<String> taskIds);
 }
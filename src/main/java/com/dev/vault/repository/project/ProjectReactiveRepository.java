@@ -1,15 +1,33 @@
 package com.dev.vault.repository.project;
 
 import com.dev.vault.model.domain.project.Project;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+
 public interface ProjectReactiveRepository extends ReactiveMongoRepository<Project, String> {
     Mono<Project> findByProjectName(String projectName);
 
-    Flux<Project> findByProjectNameContaining(String projectName);
+    @Query(value = "{}", fields = "{ 'projectName' : 1 }", sort = "{ 'projectName' : 1 }")
+    Flux<Project> findAllProjectNames();
+
+    @Query(value = "{}", fields = "{ 'projectName' : 1, 'description' : 1, 'leaderEmail' : 1, 'createdAt' : 1 }")
+    Flux<Project> findProjectPage(Pageable pageable);
+
+    @Query(value = "{ '$or' : [ { 'createdAt' : { '$lt' : ?0 } }, { 'createdAt' : ?0, '_id' : { '$lt' : ?1 } } ] }",
+            fields = "{ 'projectName' : 1, 'description' : 1, 'leaderEmail' : 1, 'createdAt' : 1 }")
+    Flux<Project> findProjectPageAfter(LocalDateTime createdAt, String projectId, Pageable pageable);
+
+    @Query(value = "{ '_id' : ?0 }", fields = "{ 'membersVersion' : 1 }")
+    Mono<Project> findMembersVersionByProjectId(String projectId);
 
-    Mono<Boolean> existsByProjectNameIgnoreCase(String projectName);
+    @Query("{ '_id' : ?0 }")
+    @Update("{ '$inc' : { 'memberCount' : 1, 'membersVersion' : 1 } }")
+    Mono<Long> incrementMemberCountByProjectId(String projectId);
 
 }
\ No newline at end of file
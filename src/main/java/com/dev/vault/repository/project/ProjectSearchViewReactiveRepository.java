@@ -0,0 +1,7 @@
+package com.dev.vault.repository.project;
+
+import com.dev.vault.model.domain.project.ProjectSearchView;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface ProjectSearchViewReactiveRepository extends ReactiveMongoRepository<ProjectSearchView, String> {
+}
@@ -3,11 +3,16 @@ package com.dev.vault.repository.task;
 import com.dev.vault.model.domain.task.Task;
 import com.dev.vault.model.enums.TaskPriority;
 import com.dev.vault.model.enums.TaskStatus;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.mongodb.repository.Update;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface TaskReactiveRepository extends ReactiveMongoRepository<Task, String> {
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface TaskReactiveRepository extends ReactiveMongoRepository<Task, String>, TaskSearchRepository {
     Flux<Task> findByProjectId(String projectId);
 
     Flux<Task> findByTaskPriority(TaskPriority taskPriority);
@@ -15,4 +20,40 @@ public interface TaskReactiveRepository extends ReactiveMongoRepository<Task, St
     Flux<Task> findByTaskStatus(TaskStatus taskStatus);
 
     Mono<Boolean> existsByTaskNameAndProjectId(String taskName, String projectId);
-}
\ No newline at end of file
+
+    @Query(value = "{ 'projectId' : ?0 }",
+            fields = "{ '_id' : 1, 'taskName' : 1, 'taskStatus' : 1, 'dueDate' : 1, 'taskPriority' : 1 }",
+            sort = "{ 'taskStatus' : 1, 'dueDate' : 1 }")
+    Flux<Task> findTaskSummariesByProjectId(String projectId);
+
+    @Query(value = "{ 'taskStatus' : ?0, 'dueDate' : { '$lt' : ?1 } }", fields = "{ '_id' : 1, 'dueDate' : 1 }")
+    Flux<Task> findDueDatesByTaskStatusAndDueDateBefore(TaskStatus taskStatus, LocalDateTime dueDate);
+
+    @Query("{ '_id' : { '$in' : ?0 }, 'taskStatus' : 'IN_PROGRESS', 'dueDate' : { '$lte' : ?1 } }")
+    @Update("{ '$set' : { 'taskStatus' : 'OVERDUE', 'hasOverdue' : true, 'completionDate' : ?1, 'statusChangedAt' : ?1 }, '$unset' : { 'reminderWatermark' : '' } }")
+    Mono<Long> markOverdueByTaskIdIn(Collection<String> taskIds, LocalDateTime markedAt);
+
+    @Query("{ '_id' : ?0, 'taskStatus' : { '$ne' : 'COMPLETED' } }")
+    @Update("{ '$set' : { 'taskStatus' : 'COMPLETED', 'hasOverdue' : ?1, 'completionDate' : ?2, 'statusChangedAt' : ?2 }, '$unset' : { 'reminderWatermark' : '' } }")
+    Mono<Long> completeByTaskId(String taskId, boolean hasOverdue, LocalDateTime completedAt);
+
+    @Query("{ '_id' : ?0 }")
+    @Update("{ '$set' : { 'statusChangedAt' : ?1 } }")
+    Mono<Long> updateStatusChangedAtByTaskId(String taskId, LocalDateTime statusChangedAt);
+
+    @Query(value = "{ '_id' : { '$in' : ?0 }, 'taskStatus' : 'OVERDUE', 'completionDate' : ?1 }",
+            fields = "{ '_id' : 1, 'taskName' : 1, 'projectId' : 1, 'taskStatus' : 1 }")
+    Flux<Task> findSummariesByTaskIdInAndOverdueMarkedAt(Collection<String> taskIds, LocalDateTime markedAt);
+
+    @Query(value = "{ 'reminderWatermark' : { '$lte' : ?0 }, 'taskStatus' : 'IN_PROGRESS' }",
+            fields = "{ '_id' : 1, 'taskName' : 1, 'dueDate' : 1, 'reminderWatermark' : 1 }")
+    Flux<Task> findDueRemindersByReminderWatermarkBefore(LocalDateTime now);
+
+    @Query("{ '_id' : ?0, 'reminderWatermark' : ?1 }")
+    @Update("{ '$set' : { 'reminderWatermark' : ?2 } }")
+    Mono<Long> advanceReminderWatermark(String taskId, LocalDateTime currentWatermark, LocalDateTime nextWatermark);
+
+    @Query("{ '_id' : ?0, 'reminderWatermark' : ?1 }")
+    @Update("{ '$unset' : { 'reminderWatermark' : '' } }")
+    Mono<Long> clearReminderWatermark(String taskId, LocalDateTime currentWatermark);
+}
@@ -0,0 +1,27 @@
+package com.dev.vault.repository.task;
+
+import com.dev.vault.model.domain.task.Task;
+import com.dev.vault.model.enums.TaskPriority;
+import com.dev.vault.model.enums.TaskStatus;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+
+/**
+ * Full-text search over {@link Task#getTaskName() taskName} and {@link Task#getDescription() description}, backed by the
+ * {@code taskName_description_text} index. Implemented by {@link TaskSearchRepositoryImpl} and mixed into {@link TaskReactiveRepository}.
+ */
+public interface TaskSearchRepository {
+
+    /**
+     * Searches the tasks matching the given keywords, most relevant first.
+     *
+     * @param keywords  the keywords to search for; a task matches if it contains any of them (quoted phrases and {@code -negation} are supported).
+     * @param status    the status of the tasks (optional).
+     * @param priority  the priority of the tasks (optional).
+     * @param projectId the ID of the project the tasks belong to (optional).
+     * @param pageable  the page to return; its sort is ignored, the results are sorted by relevance.
+     * @return a {@link Flux} of the matching tasks of the page, with their {@link Task#getScore() score}.
+     */
+    Flux<Task> searchByText(String keywords, TaskStatus status, TaskPriority priority, String projectId, Pageable pageable);
+
+}
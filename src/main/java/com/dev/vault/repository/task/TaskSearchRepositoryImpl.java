@@ -0,0 +1,37 @@
+package com.dev.vault.repository.task;
+
+import com.dev.vault.model.domain.task.Task;
+import com.dev.vault.model.enums.TaskPriority;
+import com.dev.vault.model.enums.TaskStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import reactor.core.publisher.Flux;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    private final ReactiveMongoOperations mongoOperations;
+
+    @Override
+    public Flux<Task> searchByText(String keywords, TaskStatus status, TaskPriority priority, String projectId, Pageable pageable) {
+        TextQuery query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(keywords))
+                .sortByScore();
+
+        // the optional filters are applied to the text matches
+        if (status != null)
+            query.addCriteria(where("taskStatus").is(status));
+        if (priority != null)
+            query.addCriteria(where("taskPriority").is(priority));
+        if (projectId != null)
+            query.addCriteria(where("projectId").is(projectId));
+
+        query.skip(pageable.getOffset()).limit(pageable.getPageSize());
+        return mongoOperations.find(query, Task.class);
+    }
+
+}
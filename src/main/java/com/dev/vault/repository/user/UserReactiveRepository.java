@@ -1,9 +1,16 @@
 package com.dev.vault.repository.user;
 
 import com.dev.vault.model.domain.user.User;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 public interface UserReactiveRepository extends ReactiveMongoRepository<User, String> {
     Mono<User> findByEmail(String email);
+
+    @Query(value = "{ '_id' : { '$in' : ?0 } }", fields = "{ 'email' : 1, 'major' : 1, 'education' : 1 }")
+    Flux<User> findMemberProfilesByUserIdIn(Collection<String> userIds);
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.dev.vault.scheduler;
+
+/**
+ * Published when this node acquires the {@link SchedulerLeaderElection scheduler lease}, i.e. becomes the one running the scheduled jobs.
+ *
+ * @param leaseName the name of the acquired lease.
+ * @param nodeId    the ID of this node.
+ */
+public record LeadershipGrantedEvent(String leaseName, String nodeId) {
+}
@@ -2,23 +2,34 @@ package com.dev.vault.scheduler;
 
 import com.dev.vault.model.domain.task.Task;
 import com.dev.vault.model.enums.TaskStatus;
-import com.dev.vault.repository.task.TaskReactiveRepository;
+import com.dev.vault.util.task.TaskOverdueUtils;
+import com.dev.vault.util.task.TaskReminderUtils;
+import com.dev.vault.util.task.TaskStatusFeed;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
-
-import static com.dev.vault.model.enums.TaskStatus.IN_PROGRESS;
-import static com.dev.vault.model.enums.TaskStatus.OVERDUE;
+import java.util.List;
 
 /**
  * This class schedules the marking of overdue tasks and sends notifications.<br>
- * The method "markTaskOverDue" runs every 10 minutes and iterates over all tasks in the database with a status of "IN_PROGRESS".<br>
- * If a task is overdue, its status is updated to "OVERDUE", its "hasOverdue" flag is set to true, and its "completionDate" is set to the current date and time.<br>
- * The method also sends a notification to the task assignee that the task is overdue (TODO).<br>
+ * The method "markTaskOverDue" runs every second and marks the tasks with a status of "IN_PROGRESS" whose due date has just passed.<br>
+ * The due dates are kept in an in-memory timer wheel, which the method "loadDueTasks" fills every hour with the tasks due within the next day.<br>
+ * With several nodes, only the holder of the {@link SchedulerLeaderElection scheduler lease} runs "loadDueTasks"; every node keeps
+ * marking the tasks it has created or updated itself, whose timers only live in its own wheel (the overdue update is conditional, so a
+ * task also loaded by the leader is marked once).<br>
+ * Every job runs through the {@link ScheduledJobRunner}: a run is skipped while the previous one is still in flight, and its duration,
+ * scanned and updated items and lag are exposed as metrics.<br>
+ * An overdue task gets its status updated to "OVERDUE", its "hasOverdue" flag set to true, and its "completionDate" set to the current date and time.<br>
+ * The update also sets its "statusChangedAt", from which the {@link TaskStatusFeed} of every node streams an "OVERDUE" event to the members of the project.<br>
+ * The method "sendTaskReminders" runs every minute and reminds the assignees of the tasks entering one of the "task.reminder.windows" before their due date.<br>
  * <p>
  * To change the scheduling time, use the following pattern:<br>
  * second, minute, hour, day, month, weekday.<br>
@@ -34,13 +45,31 @@ import static com.dev.vault.model.enums.TaskStatus.OVERDUE;
 @Slf4j
 public class ProjectTaskScheduler {
 
-    private final TaskReactiveRepository taskReactiveRepository;
+    private final TaskOverdueUtils taskOverdueUtils;
+    private final TaskReminderUtils taskReminderUtils;
+    private final ScheduledJobRunner jobRunner;
+    private final MeterRegistry meterRegistry;
+
+    private static final String MARK_OVERDUE_JOB = "markTaskOverDue";
+    private static final String LOAD_DUE_TASKS_JOB = "loadDueTasks";
+    private static final String SEND_REMINDERS_JOB = "sendTaskReminders";
+
+
+    @PostConstruct
+    public void registerGauges() {
+        Gauge.builder("devvault.task.overdue.tracked", taskOverdueUtils, TaskOverdueUtils::trackedTaskCount)
+                .description("tasks whose due date is tracked by the timer wheel of this node")
+                .register(meterRegistry);
+    }
+
 
     /**
-     * This method marks overdue tasks as {@link TaskStatus#OVERDUE OVERDUE} and saves them to the database.<br>
-     * It iterates over all tasks in the database with a status of {@link TaskStatus#IN_PROGRESS IN_PROGRESS} and checks if their due date is before the current date and time.<br>
-     * If a task is overdue, its status is updated to {@link TaskStatus#OVERDUE OVERDUE}, its "{@link Task#hasOverdue hasOverdue}" flag is set to true, and its "{@link Task#completionDate completionDate}" is set to the current date and time.<br>
-     * The method runs every 1 minutes.<br><br>
+     * This method marks overdue tasks as {@link TaskStatus#OVERDUE OVERDUE}.<br>
+     * Only the {@link TaskStatus#IN_PROGRESS IN_PROGRESS} tasks whose due date is before the current date and time are touched: their status is updated to {@link TaskStatus#OVERDUE OVERDUE},
+     * their "{@link Task#hasOverdue hasOverdue}" flag is set to true, and their "{@link Task#completionDate completionDate}" is set to the current date and time.<br>
+     * The database isn't scanned: {@link TaskOverdueUtils#pollDueTasks(LocalDateTime)} advances the timer wheel, and only the tasks whose due date has been reached
+     * since the last run are updated with {@code updateMany}, one batch after the other; when no task is due, nothing is sent to the database at all.<br>
+     * The method runs every second (the resolution of the timer wheel), configurable by "task.overdue.tick".<br><br>
      * <p>
      * You can change the scheduling time according to your needs using the following pattern:<br>
      * {{ second, minute, hour, day, month, weekday }}.<br>
@@ -53,39 +82,61 @@ public class ProjectTaskScheduler {
      * Use the appropriate scheduling pattern to suit your needs.<br>
      */
     @SuppressWarnings("JavadocReference")
-    @Scheduled(fixedRateString = "PT1M")
+    @Scheduled(fixedRateString = "${task.overdue.tick:PT1S}")
     public void markTaskOverDue() {
-        taskReactiveRepository.findAll()
-                // TODO: SEND NOTIFICATION OF OVERDUE TASK
-                .flatMap(task -> {
-
-                    // Check if the task is already marked as overdue -> do nothing if it is
-                    if (task.getTaskStatus().equals(OVERDUE))
-                        return Flux.empty();
-
-                    // Check if the task is in progress -> do nothing if it is (since there's no need to check OVERDUE & COMPLETED tasks)
-                    if (!task.getTaskStatus().equals(IN_PROGRESS))
-                        return Flux.empty();
-
-                    // Check if the task is overdue -> the real check of overdue tasks
-                    if (task.getDueDate().isBefore(LocalDateTime.now())) {
-                        log.info("------------------");
-                        log.info("Scheduling task...");
-                        log.warn("⌚⌚⌚Scheduler::: Task: {{}}, is overdue!⌚⌚⌚", task.getTaskName());
-
-                        // Update the task status, hasOverdue flag, and completionDate and save to db
-                        task.setTaskStatus(OVERDUE);
-                        task.setHasOverdue(true);
-                        task.setCompletionDate(LocalDateTime.now());
-
-                        log.info("------------------");
-
-                        // Return a Mono that saves the updated task to the database
-                        return taskReactiveRepository.save(task);
-                    }
-                    return Flux.empty();
-                }).subscribe();
+        jobRunner.runOnEveryNode(MARK_OVERDUE_JOB, context -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<String> dueTaskIds = taskOverdueUtils.pollDueTasks(now);
+            context.scanned(dueTaskIds.size());
+
+            return taskOverdueUtils.markOverdueTasks(dueTaskIds, now)
+                    .doOnNext(task -> log.warn("⌚⌚⌚Scheduler::: Task: {{}}, is overdue!⌚⌚⌚", task.getTaskId()))
+                    .doOnNext(task -> context.updated(1));
+        });
+    }
+
+
+    /**
+     * This method loads the {@link TaskStatus#IN_PROGRESS IN_PROGRESS} tasks due within the horizon of the timer wheel (one day) into the wheel.<br>
+     * It runs every hour on the leader only, configurable by "task.overdue.load-interval" (which must stay below the horizon), and as soon as a node
+     * becomes the leader; in between, the task services keep the wheel current whenever a task is created, updated, completed or deleted.<br>
+     * Tasks that are already past their due date (e.g. while the application was down) are loaded too, and are marked on the next tick.<br>
+     */
+    @Scheduled(fixedRateString = "${task.overdue.load-interval:PT1H}")
+    public void loadDueTasks() {
+        jobRunner.runOnLeader(LOAD_DUE_TASKS_JOB, context -> taskOverdueUtils.loadDueTasks(LocalDateTime.now())
+                .doOnNext(scheduled -> {
+                    context.scanned(1);
+                    if (scheduled)
+                        context.updated(1);
+                })
+        );
     }
-}
 
-//TODO: REMINDER SYSTEM FOR TASKS THAT ARE APPROACHING THERE DUE DATE.
+
+    /**
+     * This method reminds the assignees of the {@link TaskStatus#IN_PROGRESS IN_PROGRESS} tasks approaching their due date, with one email per assignee.<br>
+     * Only the tasks whose "{@link Task#reminderWatermark reminderWatermark}" has been reached are read, by a range on its index; see {@link TaskReminderUtils}.<br>
+     * It runs every minute on the leader only, configurable by "task.reminder.tick".<br>
+     */
+    @SuppressWarnings("JavadocReference")
+    @Scheduled(fixedRateString = "${task.reminder.tick:PT1M}")
+    public void sendTaskReminders() {
+        jobRunner.runOnLeader(SEND_REMINDERS_JOB, context -> {
+            LocalDateTime now = LocalDateTime.now();
+            Flux<Task> dueTasks = taskReminderUtils.findDueReminders(now).doOnNext(task -> context.scanned(1));
+
+            return taskReminderUtils.sendReminders(dueTasks, now)
+                    .doOnNext(context::updated);
+        });
+    }
+
+
+    /**
+     * Loads the due tasks as soon as this node becomes the leader, instead of waiting for the next "loadDueTasks" run.
+     */
+    @EventListener(LeadershipGrantedEvent.class)
+    public void onLeadershipGranted() {
+        loadDueTasks();
+    }
+}
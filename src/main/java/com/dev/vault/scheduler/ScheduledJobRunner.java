@@ -0,0 +1,162 @@
+package com.dev.vault.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Runs the reactive work of the {@code @Scheduled} methods, so a slow database never stacks runs on top of each other.
+ * <p>
+ * <ul>
+ *     <li>A run is skipped while the previous run of the same job is still in flight (and counted as skipped).</li>
+ *     <li>A run is cancelled after {@code scheduler.job.timeout}, so a stuck run doesn't block the job forever.</li>
+ *     <li>Errors are logged and counted, never propagated to the scheduler thread.</li>
+ *     <li>The leader-only jobs are skipped on the nodes that don't hold the {@link SchedulerLeaderElection scheduler lease}.</li>
+ * </ul>
+ * The work reports what it has done through its {@link JobContext}, and every job exposes the Micrometer meters (tagged with the job name):
+ * {@code devvault.scheduler.job} (timer, also tagged with the outcome), {@code devvault.scheduler.job.items} (counters of the scanned
+ * and updated items), {@code devvault.scheduler.job.skipped} (counter) and {@code devvault.scheduler.job.lag} (gauge, seconds since the last
+ * successful run).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobRunner {
+
+    private final SchedulerLeaderElection leaderElection;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, JobState> jobs = new ConcurrentHashMap<>();
+
+    @Value("${scheduler.job.timeout}")
+    private Duration jobTimeout;
+
+
+    /**
+     * Runs the work of a job that every node runs (e.g. on its own in-memory state).
+     *
+     * @param job  the name of the job.
+     * @param work the work of the run; the returned publisher is subscribed once, its elements are ignored.
+     */
+    public void runOnEveryNode(String job, Function<JobContext, ? extends Publisher<?>> work) {
+        run(job, work);
+    }
+
+
+    /**
+     * Runs the work of a job only on the node that holds the scheduler lease.
+     *
+     * @param job  the name of the job.
+     * @param work the work of the run; the returned publisher is subscribed once, its elements are ignored.
+     */
+    public void runOnLeader(String job, Function<JobContext, ? extends Publisher<?>> work) {
+        if (leaderElection.isLeader())
+            run(job, work);
+    }
+
+
+    private void run(String job, Function<JobContext, ? extends Publisher<?>> work) {
+        JobState state = jobs.computeIfAbsent(job, this::registerJob);
+
+        // never stack a run on top of a slow one, the next tick catches up
+        if (!state.running.compareAndSet(false, true)) {
+            state.skipped.increment();
+            log.debug("Scheduler::: job {{}} is still running, this run is skipped", job);
+            return;
+        }
+
+        JobContext context = new JobContext();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Flux.defer(() -> Flux.from(work.apply(context)))
+                .then()
+                .timeout(jobTimeout)
+                .doFinally(signal -> state.running.set(false))
+                .subscribe(
+                        unused -> {
+                        },
+                        error -> {
+                            String outcome = error instanceof TimeoutException ? "timeout" : "error";
+                            finish(job, state, context, sample, outcome);
+                            log.error("Scheduler::: job {{}} failed ({}) after {{}} scanned, {{}} updated: {}",
+                                    job, outcome, context.scanned.get(), context.updated.get(), error.getMessage());
+                        },
+                        () -> {
+                            finish(job, state, context, sample, "success");
+                            state.lastSucceededAt.set(System.currentTimeMillis());
+                            if (context.scanned.get() > 0 || context.updated.get() > 0)
+                                log.info("Scheduler::: job {{}} completed: {{}} scanned, {{}} updated",
+                                        job, context.scanned.get(), context.updated.get());
+                        }
+                );
+    }
+
+
+    private void finish(String job, JobState state, JobContext context, Timer.Sample sample, String outcome) {
+        sample.stop(meterRegistry.timer("devvault.scheduler.job", "job", job, "outcome", outcome));
+        state.scanned.increment(context.scanned.get());
+        state.updated.increment(context.updated.get());
+    }
+
+
+    private JobState registerJob(String job) {
+        JobState state = new JobState(
+                Counter.builder("devvault.scheduler.job.items").tag("job", job).tag("type", "scanned").register(meterRegistry),
+                Counter.builder("devvault.scheduler.job.items").tag("job", job).tag("type", "updated").register(meterRegistry),
+                Counter.builder("devvault.scheduler.job.skipped").tag("job", job).register(meterRegistry)
+        );
+        Gauge.builder("devvault.scheduler.job.lag", state.lastSucceededAt, lastRun -> (System.currentTimeMillis() - lastRun.get()) / 1_000.0)
+                .description("seconds since the last successful run of the job")
+                .tag("job", job)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        return state;
+    }
+
+
+    /**
+     * Collects what one run of a job has done; safe to update from any thread.
+     */
+    public static class JobContext {
+
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong updated = new AtomicLong();
+
+        /**
+         * @param count the number of items read (or polled) by the run.
+         */
+        public void scanned(long count) {
+            scanned.addAndGet(count);
+        }
+
+        /**
+         * @param count the number of items written (or scheduled) by the run.
+         */
+        public void updated(long count) {
+            updated.addAndGet(count);
+        }
+    }
+
+
+    private record JobState(Counter scanned, Counter updated, Counter skipped, AtomicBoolean running, AtomicLong lastSucceededAt) {
+
+        private JobState(Counter scanned, Counter updated, Counter skipped) {
+            this(scanned, updated, skipped, new AtomicBoolean(false), new AtomicLong(System.currentTimeMillis()));
+        }
+    }
+
+}
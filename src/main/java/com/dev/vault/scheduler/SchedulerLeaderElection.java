@@ -0,0 +1,127 @@
+package com.dev.vault.scheduler;
+
+import com.dev.vault.model.domain.scheduler.SchedulerLease;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Elects the one node of the cluster that runs the scheduled jobs, with a lease document in MongoDB.
+ * <p>
+ * Every node tries to acquire (or renew) the {@code scheduler.lease.name} lease every {@code scheduler.lease.renew-interval},
+ * with one {@code findAndModify} upsert that only matches the lease if this node owns it or if it has expired. When another node
+ * holds an unexpired lease, the filter doesn't match and the upsert fails on the duplicate {@code _id}: this node isn't the leader.
+ * <p>
+ * A leader that stops renewing (crash, network partition) loses the lease after {@code scheduler.lease.duration}, and the node
+ * considers itself leader only until the expiry it has written, so two nodes never run the jobs at the same time as long as
+ * the clocks of the nodes drift less than the difference between the duration and the renew interval.
+ * <p>
+ * Ownership is exposed as the {@code devvault.scheduler.leader} gauge (1 on the leader, 0 elsewhere), tagged with the lease name.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerLeaderElection {
+
+    private final ReactiveMongoOperations mongoOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicBoolean leader = new AtomicBoolean(false);
+    private final AtomicReference<LocalDateTime> leaseExpiresAt = new AtomicReference<>(LocalDateTime.MIN);
+
+    @Value("${scheduler.lease.name}")
+    private String leaseName;
+
+    @Value("${scheduler.lease.duration}")
+    private Duration leaseDuration;
+
+
+    @PostConstruct
+    public void registerGauges() {
+        Gauge.builder("devvault.scheduler.leader", this, election -> election.isLeader() ? 1 : 0)
+                .description("1 if this node holds the scheduler lease, 0 otherwise")
+                .tag("lease", leaseName)
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * @return true if this node holds an unexpired scheduler lease, i.e. it should run the scheduled jobs.
+     */
+    public boolean isLeader() {
+        return leader.get() && LocalDateTime.now().isBefore(leaseExpiresAt.get());
+    }
+
+
+    /**
+     * Acquires or renews the scheduler lease. Publishes a {@link LeadershipGrantedEvent} when this node has just become the leader.
+     */
+    @Scheduled(fixedRateString = "${scheduler.lease.renew-interval}")
+    public void renewLease() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(leaseDuration);
+
+        // only matches a lease this node owns or an expired one; otherwise the upsert fails on the existing _id
+        Query query = Query.query(Criteria.where("_id").is(leaseName)
+                .orOperator(Criteria.where("owner").is(nodeId), Criteria.where("expiresAt").lt(now)));
+        Update update = new Update()
+                .set("owner", nodeId)
+                .set("renewedAt", now)
+                .set("expiresAt", expiresAt);
+
+        mongoOperations.findAndModify(query, update, FindAndModifyOptions.options().upsert(true).returnNew(true), SchedulerLease.class)
+                .map(lease -> nodeId.equals(lease.getOwner()))
+                .onErrorResume(DuplicateKeyException.class, error -> Mono.just(false))
+                .defaultIfEmpty(false)
+                .subscribe(
+                        isLeader -> {
+                            if (isLeader)
+                                leaseExpiresAt.set(expiresAt);
+                            if (isLeader && !leader.getAndSet(true)) {
+                                log.info("Scheduler::: node {{}} acquired the lease {{}}", nodeId, leaseName);
+                                eventPublisher.publishEvent(new LeadershipGrantedEvent(leaseName, nodeId));
+                            } else if (!isLeader && leader.getAndSet(false))
+                                log.warn("Scheduler::: node {{}} lost the lease {{}}", nodeId, leaseName);
+                        },
+                        error -> log.error("Error occurred while renewing the scheduler lease: {}", error.getMessage())
+                );
+    }
+
+
+    /**
+     * Releases the lease on shutdown, so another node can take over without waiting for it to expire.
+     */
+    @PreDestroy
+    public void releaseLease() {
+        if (!leader.getAndSet(false))
+            return;
+
+        mongoOperations.remove(Query.query(Criteria.where("_id").is(leaseName).and("owner").is(nodeId)), SchedulerLease.class)
+                .doOnNext(result -> log.info("Scheduler::: node {{}} released the lease {{}}", nodeId, leaseName))
+                .onErrorResume(error -> Mono.empty())
+                .block(Duration.ofSeconds(5));
+    }
+
+}
@@ -9,4 +9,6 @@ public interface ProjectManagementService {
     Mono<ProjectDto> createProject(ProjectDto projectDto);
 
     Flux<ProjectMembersDto> getAllMembersOfProject(String projectId);
+
+    Mono<Long> getMembersVersion(String projectId);
 }
@@ -1,12 +1,23 @@
 package com.dev.vault.service.interfaces.project;
 
+import com.dev.vault.helper.payload.response.project.ProjectPageResponse;
 import com.dev.vault.helper.payload.response.project.SearchResponse;
+import org.springframework.http.codec.ServerSentEvent;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
 
 public interface SearchProjectService {
-    // list all the projects
-    Flux<SearchResponse> listAllProjects();
+    // list all the projects (unless liveOnly), then stream the newly created ones; resumes after lastEventId if there is one
+    Flux<ServerSentEvent<SearchResponse>> listAllProjects(String lastEventId, boolean liveOnly);
+
+    // list a page of the projects, newest first, after the given cursor
+    Mono<ProjectPageResponse> listProjectPage(String cursor, int size);
 
     // search for a project with matching names
     Flux<SearchResponse> searchForProject(String projectOrGroupName);
+
+    // the project names starting with the prefix, for the typeahead
+    Mono<List<String>> autocompleteProjectNames(String prefix, int limit);
 }
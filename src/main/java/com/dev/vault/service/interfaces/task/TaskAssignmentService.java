@@ -4,10 +4,13 @@ import com.dev.vault.helper.exception.DevVaultException;
 import com.dev.vault.helper.exception.NotLeaderOfProjectException;
 import com.dev.vault.helper.exception.NotMemberOfProjectException;
 import com.dev.vault.helper.exception.ResourceNotFoundException;
+import com.dev.vault.helper.payload.response.task.TaskAssignmentProgressResponse;
 import com.dev.vault.helper.payload.response.task.TaskResponse;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Interface for assigning tasks services.
@@ -42,6 +45,19 @@ public interface TaskAssignmentService {
             throws ResourceNotFoundException, NotLeaderOfProjectException;
 
 
+    /**
+     * Assigns a task to all users in a project and streams the progress, one element per inserted batch.
+     *
+     * @param taskId    The ID of the task to assign.
+     * @param projectId The ID of the project to which the task belongs.
+     * @return A {@link Flux} of {@link TaskAssignmentProgressResponse}, with the running total of assigned users.
+     * @throws NotLeaderOfProjectException If the current user is not a leader or admin of the project.
+     * @throws ResourceNotFoundException   If the task or project is not found.
+     */
+    Flux<TaskAssignmentProgressResponse> assignTaskToAllUsersInProjectWithProgress(String taskId, String projectId)
+            throws ResourceNotFoundException, NotLeaderOfProjectException;
+
+
     /**
      * Unassigns a task from a user in a given project.
      *
@@ -63,12 +79,12 @@ public interface TaskAssignmentService {
      * @param taskId     the ID of the task to unassign.
      * @param projectId  the ID of the project containing the task.
      * @param userIdList a List of user IDs to unassign the task from.
-     * @return a {@code Mono<Void>} that completes when the task has been unassigned from all users.
-     * @throws ResourceNotFoundException   if the task, project or users are not found.
+     * @return a {@code Mono<Map<String, String>>} of the outcome for each user ID, once the task has been unassigned.
+     * @throws ResourceNotFoundException   if the project is not found.
      * @throws NotLeaderOfProjectException if the user is not a leader of the project.
      * @throws NotMemberOfProjectException if the user is not a member of the project.
      */
-    Mono<Void> unAssignTaskFromUsersList(String taskId, String projectId, List<String> userIdList)
+    Mono<Map<String, String>> unAssignTaskFromUsersList(String taskId, String projectId, List<String> userIdList)
             throws ResourceNotFoundException, NotLeaderOfProjectException, NotMemberOfProjectException;
 
 
@@ -0,0 +1,18 @@
+package com.dev.vault.service.interfaces.task;
+
+import com.dev.vault.helper.payload.response.task.TaskEventResponse;
+import reactor.core.publisher.Flux;
+
+/**
+ * A service interface for streaming the task events.
+ */
+public interface TaskEventService {
+
+    /**
+     * Streams the events (overdue and status changes) of the tasks of the projects the current user is a member of.
+     *
+     * @return a never-ending {@link Flux} of the task events.
+     */
+    Flux<TaskEventResponse> streamTaskEvents();
+
+}
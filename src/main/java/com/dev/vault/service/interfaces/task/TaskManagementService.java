@@ -6,6 +6,7 @@ import com.dev.vault.helper.exception.ResourceAlreadyExistsException;
 import com.dev.vault.helper.exception.ResourceNotFoundException;
 import com.dev.vault.helper.payload.request.task.TaskRequest;
 import com.dev.vault.helper.payload.response.task.TaskResponse;
+import com.dev.vault.helper.payload.response.task.TaskSummaryResponse;
 import com.dev.vault.model.enums.TaskPriority;
 import com.dev.vault.model.enums.TaskStatus;
 import reactor.core.publisher.Flux;
@@ -43,6 +44,32 @@ public interface TaskManagementService {
     Flux<TaskResponse> searchTaskBasedOnDifferentCriteria(TaskStatus status, TaskPriority priority, String projectId, String assignedToUserId);
 
 
+    /**
+     * Searches for tasks by keywords in their name and description, most relevant first.
+     *
+     * @param keywords  the keywords to search for.
+     * @param status    the status of the tasks to search for (optional)
+     * @param priority  the priority of the tasks to search for (optional)
+     * @param projectId the ID of the project that the tasks belong to (optional)
+     * @param page      the zero-based page number.
+     * @param size      the page size.
+     * @return a Flux that emits the task responses of the page, in relevance order
+     */
+    Flux<TaskResponse> searchTasksByText(String keywords, TaskStatus status, TaskPriority priority, String projectId, int page, int size);
+
+
+    /**
+     * Lists the task board of a project: a lightweight summary of every task, ordered by status and due date.
+     *
+     * @param projectId the ID of the project.
+     * @return a Flux of the task summaries of the project.
+     * @throws ResourceNotFoundException   if the project with the given ID is not found.
+     * @throws NotMemberOfProjectException if the current user is not a member of the project.
+     */
+    Flux<TaskSummaryResponse> getProjectTaskBoard(String projectId)
+            throws ResourceNotFoundException, NotMemberOfProjectException;
+
+
     /**
      * Updates a tasks details for the given taskID.
      *
@@ -6,20 +6,26 @@ import com.dev.vault.helper.payload.request.project.ProjectMembersDto;
 import com.dev.vault.helper.payload.request.user.UserDto;
 import com.dev.vault.model.domain.project.Project;
 import com.dev.vault.model.domain.relationship.ProjectMembers;
-import com.dev.vault.model.domain.relationship.UserProjectRole;
-import com.dev.vault.model.domain.relationship.UserRole;
+import com.dev.vault.model.domain.user.Roles;
+import com.dev.vault.model.domain.user.User;
 import com.dev.vault.repository.mappings.ProjectMembersReactiveRepository;
 import com.dev.vault.repository.project.ProjectReactiveRepository;
 import com.dev.vault.service.interfaces.project.ProjectManagementService;
 import com.dev.vault.service.interfaces.user.AuthenticationService;
 import com.dev.vault.util.project.ProjectManagementUtilsImpl;
+import com.dev.vault.util.project.ProjectMembersVersionUtils;
+import com.dev.vault.util.project.ProjectNameSearchUtils;
+import com.dev.vault.util.project.ProjectSearchViewUtils;
 import com.dev.vault.util.repository.ReactiveRepositoryUtils;
+import com.mongodb.MongoException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.util.List;
 
@@ -38,55 +44,74 @@ public class ProjectManagementServiceImpl implements ProjectManagementService {
     private final AuthenticationService authenticationService;
     private final ReactiveRepositoryUtils reactiveRepositoryUtils;
     private final ProjectManagementUtilsImpl projectManagementUtils;
+    private final ProjectNameSearchUtils projectNameSearchUtils;
+    private final ProjectSearchViewUtils projectSearchViewUtils;
+    private final ProjectMembersVersionUtils projectMembersVersionUtils;
+    private final TransactionalOperator mongoTransactionalOperator;
+
+    private static final int MAX_TRANSACTION_RETRIES = 3;
 
 
     /**
      * Creates a new project with the given project details, assigns the current user as the project leader,
      * increments the count of member by one, and saves the project to the database.
-     * If a project with the same name already exists, an error is thrown.
+     * If a project with the same name (ignoring the case) already exists, an error is thrown.
      *
      * @param projectDto the DTO containing the project details
      * @return a Mono of ProjectDto containing the project information
      * @throws ResourceAlreadyExistsException if a project with the same name already exists
      */
     @Override
-    @Transactional
     public Mono<ProjectDto> createProject(ProjectDto projectDto) {
-        // Check if a project with the same name already exists
-        return projectManagementUtils.checkIfProjectExists(projectDto).flatMap(projectExists ->
-                // Get the current user
-                authenticationService.getCurrentUserMono().flatMap(currentUser ->
-                        // Get the PROJECT_LEADER role
-                        reactiveRepositoryUtils.find_RoleByRole_OrElseThrow_ResourceNotFoundException(PROJECT_LEADER).flatMap(projectLeaderRole -> {
-                            // Create the `Project` object and set the leader to the current user
-                            Project project = projectManagementUtils.createProjectObject(projectDto, currentUser);
-
-                            // Create a new `ProjectMembers` object for the current user and save it to the database
-                            ProjectMembers projectMembers = projectManagementUtils.createProjectMembersObject(currentUser, project);
-
-                            // Create a new `UserProjectRole` object for the current user and save it to the database
-                            Mono<UserProjectRole> userProjectRoleMono = projectManagementUtils.createUserProjectRoleObject(currentUser, projectLeaderRole, project);
-
-                            // Create a new `UserRole` object for the current user and save it to the database
-                            Mono<UserRole> userRoleMono = projectManagementUtils.createUserRoleObject(currentUser, projectLeaderRole);
-
-                            Mono<Project> savedProjectMono = projectReactiveRepository.save(project);
-                            Mono<ProjectMembers> savedProjectMembersMono = projectMembersReactiveRepository.save(projectMembers);
-
-                            // Emit the newly created project to the projectSink
-                            projectManagementUtils.emitNewlyCreatedProject(currentUser, project);
-
-                            // combine all asynchronous operations and Return a ProjectDto object with the project information
-                            return Mono.zip(savedProjectMono, savedProjectMembersMono, userProjectRoleMono, userRoleMono)
-                                    .map(tuple ->
-                                            ProjectDto.builder()
-                                                    .projectName(project.getProjectName())
-                                                    .projectDescription(project.getDescription())
-                                                    .build()
-                                    );
-                        })
-                )
-        );
+        // Get the current user and the (cached) PROJECT_LEADER role at the same time
+        return Mono.zip(authenticationService.getCurrentUserMono(), reactiveRepositoryUtils.find_CachedRoleByRole_OrElseThrow_ResourceNotFoundException(PROJECT_LEADER))
+                .flatMap(userAndRole -> {
+                    User currentUser = userAndRole.getT1();
+                    Roles projectLeaderRole = userAndRole.getT2();
+
+                    // Create the `Project` object and set the leader to the current user
+                    Project project = projectManagementUtils.createProjectObject(projectDto, currentUser);
+
+                    // Create a new `ProjectMembers` object for the current user
+                    ProjectMembers projectMembers = projectManagementUtils.createProjectMembersObject(currentUser, project);
+
+                    // Insert the project first: the unique index on its name key claims the name in the same write. Then save the
+                    // membership, the `UserProjectRole` and `UserRole` of the leader and the search view of the project, one after the
+                    // other (the operations of a transaction share one session). Everything is committed together, or not at all.
+                    Mono<Project> createdProjectMono = projectReactiveRepository.insert(project)
+                            .flatMap(savedProject -> projectMembersReactiveRepository.save(projectMembers)
+                                    .then(projectManagementUtils.createUserProjectRoleObject(currentUser, projectLeaderRole, project))
+                                    .then(projectManagementUtils.createUserRoleObject(currentUser, projectLeaderRole))
+                                    .then(projectSearchViewUtils.createView(project, currentUser))
+                                    .thenReturn(savedProject)
+                            )
+                            .as(mongoTransactionalOperator::transactional)
+                            // a concurrent creation of the same name aborts with a transient write conflict; the retry then finds the duplicate
+                            .retryWhen(Retry.max(MAX_TRANSACTION_RETRIES).filter(this::isTransientTransactionError))
+                            .onErrorMap(DuplicateKeyException.class, error -> {
+                                log.info("⚠️this project already exists! provide a unique name");
+                                return new ResourceAlreadyExistsException("Project", "Project Name", project.getProjectName());
+                            });
+
+                    // committed: searchable and autocompleted right away on this node; the other nodes (and the stream) get it from the feed
+                    return createdProjectMono
+                            .doOnNext(projectNameSearchUtils::index)
+                            .map(savedProject ->
+                                    ProjectDto.builder()
+                                            .projectName(project.getProjectName())
+                                            .projectDescription(project.getDescription())
+                                            .build()
+                            );
+                });
+    }
+
+
+    private boolean isTransientTransactionError(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException && mongoException.hasErrorLabel(MongoException.TRANSIENT_TRANSACTION_ERROR_LABEL))
+                return true;
+        }
+        return false;
     }
 
 
@@ -115,4 +140,16 @@ public class ProjectManagementServiceImpl implements ProjectManagementService {
         });
     }
 
+
+    /**
+     * Get the members version of a project, which changes whenever a member joins or leaves it.
+     *
+     * @param projectId id of the project.
+     * @return the members version of the project; read from memory when it's already known on this node.
+     */
+    @Override
+    public Mono<Long> getMembersVersion(String projectId) {
+        return projectMembersVersionUtils.getMembersVersion(projectId);
+    }
+
 }
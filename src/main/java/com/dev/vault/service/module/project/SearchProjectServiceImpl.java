@@ -1,16 +1,22 @@
 package com.dev.vault.service.module.project;
 
-import com.dev.vault.helper.exception.ResourceNotFoundException;
-import com.dev.vault.helper.payload.request.project.ProjectMembersDto;
-import com.dev.vault.helper.payload.request.user.UserDto;
+import com.dev.vault.helper.exception.DevVaultException;
+import com.dev.vault.helper.payload.response.project.ProjectPageResponse;
 import com.dev.vault.helper.payload.response.project.SearchResponse;
 import com.dev.vault.model.domain.project.Project;
 import com.dev.vault.repository.project.ProjectReactiveRepository;
 import com.dev.vault.service.interfaces.project.SearchProjectService;
-import com.dev.vault.util.project.ProjectManagementUtilsImpl;
-import com.dev.vault.util.project.ProjectUtilsImpl;
+import com.dev.vault.util.project.ProjectEventPublisher;
+import com.dev.vault.util.project.ProjectMemberHydrator;
+import com.dev.vault.util.project.ProjectNameSearchUtils;
+import com.dev.vault.util.project.ProjectNameTrie;
+import com.dev.vault.util.project.ProjectPageCursor;
+import com.dev.vault.util.project.ProjectSearchViewUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -24,80 +30,113 @@ import java.util.List;
 @Service
 @RequiredArgsConstructor
 @Slf4j
-// TODO:: pagination
 public class SearchProjectServiceImpl implements SearchProjectService {
 
     private final ProjectReactiveRepository projectReactiveRepository;
-    private final ProjectUtilsImpl projectUtils;
-    private final ProjectManagementUtilsImpl projectManagementUtils;
+    private final ProjectEventPublisher projectEventPublisher;
+    private final ProjectMemberHydrator projectMemberHydrator;
+    private final ProjectNameSearchUtils projectNameSearchUtils;
+    private final ProjectSearchViewUtils projectSearchViewUtils;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 20;
 
 
     /**
-     * Returns a list of all projects with their details.
+     * Returns a stream of all projects with their details, followed by the newly created projects.
+     * <p>
+     * A client reconnecting with the ID of the last event it has received only gets the newly created projects after that event,
+     * instead of all the projects again.
      *
-     * @return A list of SearchResponse objects containing project details.
+     * @param lastEventId the {@code Last-Event-ID} of a reconnecting client, or null.
+     * @param liveOnly    whether to only stream the newly created projects, without listing the projects of the database first.
+     * @return A stream of server-sent events of SearchResponse objects containing project details.
      */
     @Override
-    public Flux<SearchResponse> listAllProjects() {
+    public Flux<ServerSentEvent<SearchResponse>> listAllProjects(String lastEventId, boolean liveOnly) {
         // Create a new Flux that emits the newly created project
-        Flux<SearchResponse> newProjectFlux = projectUtils.projectSink.asFlux()
-                .map(searchResponse -> {
-                    log.info("New project emitted: {}", searchResponse.getProjectName());
-                    return searchResponse;
-                });
+        Flux<ServerSentEvent<SearchResponse>> newProjectFlux = projectEventPublisher.subscribe(lastEventId)
+                .doOnNext(event -> log.info("New project emitted: {}", event.data() == null ? null : event.data().getProjectName()));
 
-        // Create a Flux that emits all the projects from the database
-        Flux<SearchResponse> dbProjectsFlux = projectReactiveRepository.findAll()
-                .flatMap(project -> {
-                    Mono<Project> projectMono = Mono.just(project);
-
-                    // create a list of user dtos for finding the project members of the project
-                    Mono<List<UserDto>> userDtoMonoList = projectManagementUtils.getUserDtoFlux(project).collectList();
+        // a reconnecting client already has the projects of the database
+        if (lastEventId != null || liveOnly)
+            return newProjectFlux;
 
-                    // combine all the asynchronous calls and build a `SearchResponse` object for sending a response
-                    return buildSearchResponseObject(projectMono, userDtoMonoList);
-                });
+        // Create a Flux that emits all the projects from the database
+        Flux<ServerSentEvent<SearchResponse>> dbProjectsFlux = projectMemberHydrator.hydrate(projectReactiveRepository.findAll())
+                .map(searchResponse -> ServerSentEvent.builder(searchResponse).build());
 
         // Merge the two Fluxes and return the result
         return Flux.merge(newProjectFlux, dbProjectsFlux);
     }
 
 
+    /**
+     * Returns a page of the projects, newest first (by creation date, then ID).
+     * <p>
+     * The pages are keyset-paginated: the cursor holds the sort key of the last project of the previous page, so a page costs
+     * the same whatever its position, and a project created meanwhile doesn't shift the next pages.
+     *
+     * @param cursor the cursor of the page, as returned with the previous page; null for the first page.
+     * @param size   the page size, capped at {@value #MAX_PAGE_SIZE}.
+     * @return the projects of the page with their members, and the cursor of the next page.
+     * @throws DevVaultException if the cursor is malformed.
+     */
+    @Override
+    public Mono<ProjectPageResponse> listProjectPage(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest pageRequest = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt", "_id"));
+
+        // the first page, or the page after the cursor
+        Flux<Project> projectFlux = cursor == null
+                ? projectReactiveRepository.findProjectPage(pageRequest)
+                : Mono.fromSupplier(() -> ProjectPageCursor.decode(cursor))
+                .flatMapMany(pageCursor -> projectReactiveRepository.findProjectPageAfter(pageCursor.createdAt(), pageCursor.projectId(), pageRequest));
+
+        return projectFlux.collectList()
+                .flatMap(projects -> {
+                    // a full page may have a next one
+                    String nextCursor = projects.size() == pageSize
+                            ? ProjectPageCursor.after(projects.get(projects.size() - 1)).encode()
+                            : null;
+
+                    return projectMemberHydrator.hydrate(Flux.fromIterable(projects))
+                            .collectList()
+                            .map(searchResponses -> new ProjectPageResponse(searchResponses, nextCursor));
+                });
+    }
+
+
     /**
      * Searches for a project based on their name and returns their details.
+     * <p>
+     * The names are matched in memory by prefix, substring or similarity (so a misspelled name still matches), and only the
+     * best {@value #MAX_SEARCH_RESULTS} projects are returned, best match first. Their details come from their search views, with one
+     * read by ID.
      *
      * @param projectName The name of the project to search for.
      * @return A list of SearchResponse objects containing project details.
-     * @throws ResourceNotFoundException If no project is found with the given name.
      */
     @Override
     public Flux<SearchResponse> searchForProject(String projectName) {
-        // Search for projects with names containing the given string
-        return projectReactiveRepository.findByProjectNameContaining(projectName)
-                .flatMap(project -> {
-                    // Throw an exception if no project is found
-                    if (project == null)
-                        return Mono.error(new ResourceNotFoundException("Project", "ProjectName", projectName));
-
-                    // Map each project to a SearchResponse object and collect them into a list
-                    Mono<List<UserDto>> userDtoMonoList = projectManagementUtils.getUserDtoFlux(project).collectList();
-                    Mono<Project> projectMono = Mono.just(project);
-
-                    return buildSearchResponseObject(projectMono, userDtoMonoList);
-                });
+        // Search the best matching project names in memory, then read their pre-joined SearchResponse objects by ID
+        return projectSearchViewUtils.findSearchResponses(projectNameSearchUtils.search(projectName, MAX_SEARCH_RESULTS));
     }
 
 
-    private Flux<SearchResponse> buildSearchResponseObject(Mono<Project> projectMono, Mono<List<UserDto>> userDtoMonoList) {
-        return Flux.zip(projectMono, userDtoMonoList)
-                .map(tuple -> SearchResponse.builder()
-                        .projectName(tuple.getT1().getProjectName())
-                        .projectDescription(tuple.getT1().getDescription())
-                        .projectId(tuple.getT1().getProjectId())
-                        .leaderEmail(tuple.getT1().getLeaderEmail())
-                        .members(new ProjectMembersDto(tuple.getT2()))
-                        .build()
-                );
+
+    /**
+     * Returns the project names starting with the given prefix, for the typeahead of the search box.
+     * <p>
+     * The names come from an in-memory trie: nothing is read from the database, and the members are not hydrated.
+     *
+     * @param prefix the prefix typed so far.
+     * @param limit  the maximum number of names to return, at most {@value ProjectNameTrie#SUGGESTIONS_PER_NODE}.
+     * @return the matching project names, shortest first.
+     */
+    @Override
+    public Mono<List<String>> autocompleteProjectNames(String prefix, int limit) {
+        return Mono.fromSupplier(() -> projectNameSearchUtils.autocomplete(prefix, limit));
     }
 
 }
@@ -4,7 +4,9 @@ import com.dev.vault.helper.exception.DevVaultException;
 import com.dev.vault.helper.exception.NotLeaderOfProjectException;
 import com.dev.vault.helper.exception.NotMemberOfProjectException;
 import com.dev.vault.helper.exception.ResourceNotFoundException;
+import com.dev.vault.helper.payload.response.task.TaskAssignmentProgressResponse;
 import com.dev.vault.helper.payload.response.task.TaskResponse;
+import com.dev.vault.model.domain.relationship.TaskUser;
 import com.dev.vault.repository.mappings.TaskUserReactiveRepository;
 import com.dev.vault.service.interfaces.task.TaskAssignmentService;
 import com.dev.vault.service.interfaces.user.AuthenticationService;
@@ -15,9 +17,10 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -68,11 +71,9 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
                                     if (!isLeader)
                                         return Mono.error(new NotLeaderOfProjectException("👮🏻You are not a leader or admin of this project👮🏻"));
                                     else {
-                                        Map<String, String> statusResponseMap = new HashMap<>();
-
-                                        // Loop through the list of user IDs and assign the task to them
-                                        return taskUtils.assignTaskToUserList(userIdList, task, project, statusResponseMap)
-                                                .then(taskUtils.buildTaskResponse_ForAssignTaskToUsers(task, project, statusResponseMap));
+                                        // Assign the task to all the users of the list at once
+                                        return taskUtils.assignTaskToUserList(userIdList, task, project)
+                                                .flatMap(statusResponseMap -> taskUtils.buildTaskResponse_ForAssignTaskToUsers(task, project, statusResponseMap));
                                     }
                                 });
                             });
@@ -100,26 +101,56 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
 
                             // Validate task and project :: whether they belong to each other
                             return taskUtils.validateTaskAndProject(task, project, currentUser)
-                                    .then(Mono.defer(() -> {
-
-                                                // Create a responseMap to hold the responses for each user
-                                                Map<String, String> responseMap = new HashMap<>();
 
-                                                // Retrieve a set of users associated with a task and a project, and updates the responseMap with the status of the assignment for each user.
-                                                return taskUtils.assignTaskToUsersInProject(task, project, responseMap)
-                                                        .collectList().flatMap(taskUsers -> {
+                                    // Assign the task to the members that don't have it yet, and collect the newly assigned users into the responseMap
+                                    .thenMany(Flux.defer(() -> taskUtils.assignTaskToUsersInProject(task, project)))
+                                    .flatMapIterable(taskUsers -> taskUsers)
+                                    .collectMap(TaskUser::getUsername, taskUser -> "Success", LinkedHashMap::new)
 
-                                                            // Build and return a TaskResponse with information about the assigned task and its assigned users
-                                                            return taskUtils.buildTaskResponse_ForAssignTaskToUsers(task, project, responseMap);
-                                                        });
-                                            })
-                                    );
+                                    // Build and return a TaskResponse with information about the assigned task and its assigned users
+                                    .flatMap(responseMap -> taskUtils.buildTaskResponse_ForAssignTaskToUsers(task, project, responseMap));
                         })
                 )
         );
     }
 
 
+    /**
+     * Assigns a task to all users in a project and streams the progress, one element per inserted batch.
+     *
+     * @param taskId    The ID of the task to assign.
+     * @param projectId The ID of the project to which the task belongs.
+     * @return A {@link Flux} of {@link TaskAssignmentProgressResponse}, with the running total of assigned users.
+     * @throws NotLeaderOfProjectException If the current user is not a leader or admin of the project.
+     * @throws ResourceNotFoundException   If the task or project is not found.
+     */
+    @Override
+    public Flux<TaskAssignmentProgressResponse> assignTaskToAllUsersInProjectWithProgress(String taskId, String projectId) {
+        // find the `task`, `project` and get the current `user`
+        return reactiveRepositoryUtils.find_TaskById_OrElseThrow_ResourceNotFoundException(taskId).flatMapMany(task ->
+                reactiveRepositoryUtils.find_ProjectById_OrElseThrow_ResourceNotFoundException(projectId).flatMapMany(project ->
+                        authenticationService.getCurrentUserMono().flatMapMany(currentUser ->
+
+                                // Validate task and project :: whether they belong to each other
+                                taskUtils.validateTaskAndProject(task, project, currentUser)
+                                        .thenMany(Flux.defer(() -> taskUtils.assignTaskToUsersInProject(task, project)))
+
+                                        // Report every inserted batch with the running total
+                                        .scan(new TaskAssignmentProgressResponse(taskId, 0, List.of(), 0), (previous, taskUsers) ->
+                                                TaskAssignmentProgressResponse.builder()
+                                                        .taskId(taskId)
+                                                        .batch(previous.getBatch() + 1)
+                                                        .assignedUserIds(taskUsers.stream().map(TaskUser::getUserId).toList())
+                                                        .totalAssigned(previous.getTotalAssigned() + taskUsers.size())
+                                                        .build()
+                                        )
+                                        .skip(1)
+                        )
+                )
+        );
+    }
+
+
     /**
      * Unassigns a task from a user in a given project.
      *
@@ -156,26 +187,22 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
      * @param taskId     the ID of the task to unassign.
      * @param projectId  the ID of the project containing the task.
      * @param userIdList a List of user IDs to unassign the task from.
-     * @return a {@code Mono<Void>} that completes when the task has been unassigned from all users.
-     * @throws ResourceNotFoundException   if the task, project or users are not found.
+     * @return a {@code Mono<Map<String, String>>} of the outcome for each user ID, once the task has been unassigned.
+     * @throws ResourceNotFoundException   if the project is not found.
      * @throws NotLeaderOfProjectException if the user is not a leader of the project.
      * @throws NotMemberOfProjectException if the user is not a member of the project.
      */
     @Override
-    public Mono<Void> unAssignTaskFromUsersList(String taskId, String projectId, List<String> userIdList) {
+    public Mono<Map<String, String>> unAssignTaskFromUsersList(String taskId, String projectId, List<String> userIdList) {
         // 1. first of all check if the current user is leader, admin and member of project
-        // 2. find the project, users and taskUsers
-        // 3. delete the taskUsers for the corresponding users
+        // 2. delete the taskUsers of all the users at once and report the outcome of each user
         return reactiveRepositoryUtils.find_ProjectById_OrElseThrow_ResourceNotFoundException(projectId)
                 .flatMap(project -> authenticationService.getCurrentUserMono()
                         .flatMap(user -> projectUtils.isMemberOfProject(project, user)
                                 .flatMap(isMemberOfProject -> taskUtils.handleUserMembership(isMemberOfProject, project, user))
                                 .flatMap(isMemberOfProject -> projectUtils.isLeaderOrAdminOfProject(project, user))
                                 .flatMap(isLeaderOrAdminOfProject -> taskUtils.handleUserLeadership(isLeaderOrAdminOfProject, project, user))
-                                .flatMap(isLeaderOrAdminOfProject ->
-                                        taskUtils.unassignTaskFromUsersList(taskId, userIdList)
-                                                .collectList().flatMap(ignored -> Mono.empty())
-                                )
+                                .flatMap(isLeaderOrAdminOfProject -> taskUtils.unassignTaskFromUsersList(taskId, userIdList))
                         )
                 );
     } //TODO:: if a user is not member, iterate the response
@@ -194,19 +221,15 @@ public class TaskAssignmentServiceImpl implements TaskAssignmentService {
     @Override
     public Mono<Void> unassignTaskFromAllUsersInProject(String taskId, String projectId) {
         // 1. find the project and check if the user is leader or admin
-        // 2. find the task.
-        // 3. delete all the users i.e. `taskUser` object of each of them.
+        // 2. delete all the `taskUser` objects of the task at once
         return reactiveRepositoryUtils.find_ProjectById_OrElseThrow_ResourceNotFoundException(projectId)
                 .flatMap(project -> authenticationService.getCurrentUserMono()
                         .flatMap(user -> projectUtils.isMemberOfProject(project, user)
                                 .flatMap(isMemberOfProject -> taskUtils.handleUserMembership(isMemberOfProject, project, user))
                                 .flatMap(isMemberOfProject -> projectUtils.isLeaderOrAdminOfProject(project, user))
                                 .flatMap(isLeaderOrAdminOfProject -> taskUtils.handleUserLeadership(isLeaderOrAdminOfProject, project, user))
-                                .flatMap(isLeaderOrAdminOfProject ->
-                                        reactiveRepositoryUtils.findAll_TaskUsersByTaskId_OrElseThrow_ResourceNotFoundException(taskId)
-                                                .flatMap(taskUserReactiveRepository::delete)
-                                                .collectList().then()
-                                )
+                                .flatMap(isLeaderOrAdminOfProject -> taskUtils.unassignTaskFromAllUsers(taskId))
+                                .then()
                         )
                 );
     }
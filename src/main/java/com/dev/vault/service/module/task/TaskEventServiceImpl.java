@@ -0,0 +1,48 @@
+package com.dev.vault.service.module.task;
+
+import com.dev.vault.helper.payload.response.task.TaskEventResponse;
+import com.dev.vault.model.domain.relationship.ProjectMembers;
+import com.dev.vault.repository.mappings.ProjectMembersReactiveRepository;
+import com.dev.vault.service.interfaces.task.TaskEventService;
+import com.dev.vault.service.interfaces.user.AuthenticationService;
+import com.dev.vault.util.task.TaskEventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.stream.Collectors;
+
+/**
+ * Service implementation for streaming the task events.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskEventServiceImpl implements TaskEventService {
+
+    private final AuthenticationService authenticationService;
+    private final ProjectMembersReactiveRepository projectMembersReactiveRepository;
+    private final TaskEventPublisher taskEventPublisher;
+
+
+    /**
+     * Streams the events (overdue and status changes) of the tasks of the projects the current user is a member of.
+     * The memberships are read once, when the stream is opened.
+     *
+     * @return a never-ending {@link Flux} of the task events.
+     */
+    @Override
+    public Flux<TaskEventResponse> streamTaskEvents() {
+        // find the projects of the current user, covered by the userId_projectId index
+        return authenticationService.getCurrentUserMono().flatMapMany(currentUser ->
+                projectMembersReactiveRepository.findProjectIdsByUserId(currentUser.getUserId())
+                        .map(ProjectMembers::getProjectId)
+                        .collect(Collectors.toUnmodifiableSet())
+
+                        // only forward (and buffer) the events of those projects
+                        .flatMapMany(projectIds -> taskEventPublisher.subscribe(event -> projectIds.contains(event.getProjectId())))
+        );
+    }
+
+}
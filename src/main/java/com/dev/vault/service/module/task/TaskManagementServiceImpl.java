@@ -6,6 +6,7 @@ import com.dev.vault.helper.exception.ResourceAlreadyExistsException;
 import com.dev.vault.helper.exception.ResourceNotFoundException;
 import com.dev.vault.helper.payload.request.task.TaskRequest;
 import com.dev.vault.helper.payload.response.task.TaskResponse;
+import com.dev.vault.helper.payload.response.task.TaskSummaryResponse;
 import com.dev.vault.model.domain.relationship.TaskUser;
 import com.dev.vault.model.domain.task.Task;
 import com.dev.vault.model.enums.TaskPriority;
@@ -16,16 +17,20 @@ import com.dev.vault.service.interfaces.task.TaskManagementService;
 import com.dev.vault.service.interfaces.user.AuthenticationService;
 import com.dev.vault.util.project.ProjectUtils;
 import com.dev.vault.util.repository.ReactiveRepositoryUtils;
+import com.dev.vault.util.task.TaskOverdueUtils;
 import com.dev.vault.util.task.TaskUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Service implementation for task management.
@@ -40,8 +45,11 @@ public class TaskManagementServiceImpl implements TaskManagementService {
     private final AuthenticationService authenticationService;
     private final ProjectUtils projectUtils;
     private final TaskUtils taskUtils;
+    private final TaskOverdueUtils taskOverdueUtils;
     private final ReactiveRepositoryUtils reactiveRepositoryUtils;
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
 
     /**
      * Creates a new task for a given project.
@@ -75,6 +83,9 @@ public class TaskManagementServiceImpl implements TaskManagementService {
 
                                 // save `Task`, `TaskUser` and `ProjectTask` entities
                                 .flatMap(isLeaderOrAdminOfProject -> taskUtils.saveTaskAndEntities(project, currentUser, taskRequest))
+
+                                // track the due date of the task, to mark it as overdue at its due time
+                                .doOnNext(taskOverdueUtils::trackDueDate)
                                 .flatMap(savedTask -> taskUtils.buildTaskResponse_ForCreatingTask(savedTask, project))
                 )
         );
@@ -103,9 +114,12 @@ public class TaskManagementServiceImpl implements TaskManagementService {
             taskFlux = taskFlux.mergeWith(taskReactiveRepository.findByProjectId(projectId));
 
         if (assignedTo_UserId != null) {
+            // TaskUser only holds the IDs, so load all the assigned tasks with one query
             taskFlux = taskFlux.mergeWith(
-                    taskUserReactiveRepository.findByUser_UserId(assignedTo_UserId)
-                            .map(TaskUser::getTask)
+                    taskUserReactiveRepository.findByUserId(assignedTo_UserId)
+                            .map(TaskUser::getTaskId)
+                            .collectList()
+                            .flatMapMany(taskReactiveRepository::findAllById)
             );
         }
 
@@ -115,6 +129,54 @@ public class TaskManagementServiceImpl implements TaskManagementService {
     }
 
 
+    /**
+     * Searches for tasks by keywords in their name and description using the text index, and returns a page of the matching
+     * tasks ordered by relevance. The optional filters narrow down the text matches.
+     *
+     * @param keywords  the keywords to search for.
+     * @param status    the status of the tasks to search for (optional)
+     * @param priority  the priority of the tasks to search for (optional)
+     * @param projectId the ID of the project that the tasks belong to (optional)
+     * @param page      the zero-based page number.
+     * @param size      the page size, capped at {@value #MAX_SEARCH_PAGE_SIZE}.
+     * @return a {@code Flux<TaskResponse>} of the tasks of the page, in relevance order
+     */
+    @Override
+    public Flux<TaskResponse> searchTasksByText(String keywords, TaskStatus status, TaskPriority priority, String projectId, int page, int size) {
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_SEARCH_PAGE_SIZE));
+
+        return taskReactiveRepository.searchByText(keywords, status, priority, projectId, pageRequest)
+                // keep the relevance order while building the responses concurrently
+                .flatMapSequential(taskUtils::buildTaskResponse_ForSearchTask);
+    }
+
+
+    /**
+     * Lists the task board of a project. The tasks are read with a projection that is covered by the {@code taskBoard} index,
+     * and the assignee IDs of all the tasks are read with one more query, so neither full documents nor users are loaded.
+     *
+     * @param projectId the ID of the project.
+     * @return a {@code Flux<TaskSummaryResponse>} of the tasks of the project, ordered by status and due date.
+     * @throws ResourceNotFoundException   if the project with the given ID is not found.
+     * @throws NotMemberOfProjectException if the current user is not a member of the project.
+     */
+    @Override
+    public Flux<TaskSummaryResponse> getProjectTaskBoard(String projectId) {
+        return reactiveRepositoryUtils.find_ProjectById_OrElseThrow_ResourceNotFoundException(projectId).flatMapMany(project ->
+                authenticationService.getCurrentUserMono().flatMapMany(currentUser ->
+
+                        // Check if the currentUser is a member of the project
+                        projectUtils.isMemberOfProject(project, currentUser)
+                                .flatMap(isMemberOfProject -> taskUtils.handleUserMembership(isMemberOfProject, project, currentUser))
+
+                                // read the projected tasks and attach the assignee IDs
+                                .flatMap(isMemberOfProject -> taskReactiveRepository.findTaskSummariesByProjectId(projectId).collectList())
+                                .flatMapMany(taskUtils::buildTaskSummaryResponses_ForTaskBoard)
+                )
+        );
+    }
+
+
     /**
      * Updates the details of a task.
      *
@@ -129,9 +191,11 @@ public class TaskManagementServiceImpl implements TaskManagementService {
     @Transactional
     public Mono<TaskResponse> updateTaskDetails(String taskId, TaskRequest taskRequest) {
         Map<String, String> assignedUserMap = new HashMap<>();
+        AtomicReference<TaskStatus> previousStatus = new AtomicReference<>();
 
         // find the task with the given ID
         return reactiveRepositoryUtils.find_TaskById_OrElseThrow_ResourceNotFoundException(taskId)
+                .doOnNext(task -> previousStatus.set(task.getTaskStatus()))
 
                 // find the project associated with the task
                 .flatMap(task -> reactiveRepositoryUtils.find_ProjectById_OrElseThrow_ResourceNotFoundException(task.getProjectId())
@@ -146,6 +210,13 @@ public class TaskManagementServiceImpl implements TaskManagementService {
 
                                                 //save the task
                                                 .flatMap(builtTaskObject -> taskUtils.saveTask(task, assignedUserMap)
+                                                        .doOnNext(taskOverdueUtils::trackDueDate)
+
+                                                        // the save replaces the whole document, so a status change is also recorded with a $set,
+                                                        // which the TaskStatusFeed streams to the members of the project once the transaction commits
+                                                        .flatMap(savedTask -> savedTask.getTaskStatus() == previousStatus.get()
+                                                                ? Mono.just(savedTask)
+                                                                : taskReactiveRepository.updateStatusChangedAtByTaskId(taskId, LocalDateTime.now()).thenReturn(savedTask))
 
                                                         // build the task response
                                                         .flatMap(savedTask -> taskUtils.buildTaskResponse_ForAssignTaskToUsers(builtTaskObject, project, assignedUserMap))
@@ -184,6 +255,7 @@ public class TaskManagementServiceImpl implements TaskManagementService {
                                         .flatMap(isLeaderOrAdminOfProject -> taskUtils.handleUserLeadership(isLeaderOrAdminOfProject, project, user))
                                         .flatMap(isLeaderOrAdminOfProject -> taskReactiveRepository.deleteById(taskId))
                                         .then(taskUtils.deleteTaskAssociations(task))
+                                        .doOnSuccess(unused -> taskOverdueUtils.untrackDueDate(taskId))
                         )
                 )
         );
@@ -10,6 +10,7 @@ import com.dev.vault.service.interfaces.task.TaskProgressService;
 import com.dev.vault.service.interfaces.user.AuthenticationService;
 import com.dev.vault.util.project.ProjectUtils;
 import com.dev.vault.util.repository.ReactiveRepositoryUtils;
+import com.dev.vault.util.task.TaskOverdueUtils;
 import com.dev.vault.util.task.TaskUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +29,7 @@ public class TaskProgressServiceImpl implements TaskProgressService {
 
     private final TaskReactiveRepository taskRepository;
     private final TaskUtils taskUtils;
+    private final TaskOverdueUtils taskOverdueUtils;
     private final ReactiveRepositoryUtils reactiveRepositoryUtils;
     private final AuthenticationService authenticationService;
     private final ProjectUtils projectUtils;
@@ -64,10 +66,17 @@ public class TaskProgressServiceImpl implements TaskProgressService {
 
                                                     if (taskStatus.equals(TaskStatus.COMPLETED)) {
                                                         // Set the boolean value indicating whether the task was overdue when it was completed
-                                                        task.setHasOverdue(task.getDueDate().isBefore(LocalDateTime.now()));
-                                                        task.setTaskStatus(taskStatus);
-                                                        task.setCompletionDate(LocalDateTime.now());
-                                                        return taskRepository.save(task).then();
+                                                        LocalDateTime now = LocalDateTime.now();
+                                                        boolean hasOverdue = task.getDueDate().isBefore(now);
+
+                                                        // a $set on the status, so the TaskStatusFeed streams the change to the members of the project;
+                                                        // nothing is modified when the task has been completed in the meantime
+                                                        return taskRepository.completeByTaskId(taskId, hasOverdue, now)
+                                                                .flatMap(modifiedCount -> modifiedCount == 0
+                                                                        ? Mono.error(new DevVaultException("Task has already been completed"))
+                                                                        : Mono.just(modifiedCount))
+                                                                .doOnNext(modifiedCount -> taskOverdueUtils.untrackDueDate(taskId))
+                                                                .then();
                                                     } else
                                                         return Mono.error(new DevVaultException("TaskStatus should be only as COMPLETED"));
                                                 })
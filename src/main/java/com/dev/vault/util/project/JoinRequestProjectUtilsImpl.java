@@ -39,6 +39,8 @@ public class JoinRequestProjectUtilsImpl implements ProjectUtils {
     private final ProjectReactiveRepository projectReactiveRepository;
     private final AuthenticationService authenticationService;
     private final ReactiveRepositoryUtils reactiveRepositoryUtils;
+    private final ProjectSearchViewUtils projectSearchViewUtils;
+    private final ProjectMembersVersionUtils projectMembersVersionUtils;
 
 
     /**
@@ -106,9 +108,12 @@ public class JoinRequestProjectUtilsImpl implements ProjectUtils {
                 .then(reactiveRepositoryUtils.find_ProjectById_OrElseThrow_ResourceNotFoundException(projectMembers.getProjectId())
                         .flatMap(project -> {
 
-                            // Increment the member count of the project
-                            project.incrementMemberCount();
-                            return projectReactiveRepository.save(project)
+                            // Increment the member count and the members version of the project, in one atomic update
+                            return projectReactiveRepository.incrementMemberCountByProjectId(project.getProjectId())
+                                    .doOnNext(unused -> projectMembersVersionUtils.invalidate(project.getProjectId()))
+
+                                    // Add the new member to the search view of the project
+                                    .then(projectSearchViewUtils.refresh(project))
 
                                     // Delete the join request
                                     .then(joinProjectRequestReactiveRepository.delete(request));
@@ -128,16 +133,6 @@ public class JoinRequestProjectUtilsImpl implements ProjectUtils {
         return joinProjectRequestReactiveRepository.delete(request);
     }
 
-    @Override
-    public void emitNewlyCreatedProject(User user, Project project) {
-
-    }
-
-    @Override
-    public Mono<Boolean> checkIfProjectExists(ProjectDto projectDto) {
-        return null;
-    }
-
     @Override
     public Project createProjectObject(ProjectDto projectDto, User currentUser) {
         return null;
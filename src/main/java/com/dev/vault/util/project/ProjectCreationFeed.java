@@ -0,0 +1,159 @@
+package com.dev.vault.util.project;
+
+import com.dev.vault.model.domain.project.Project;
+import com.dev.vault.model.domain.stream.ChangeStreamCheckpoint;
+import com.mongodb.MongoException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Feeds the {@link ProjectEventPublisher} from a MongoDB change stream on the inserts into the {@code project} collection, so the
+ * clients of every node see the projects created on any node.
+ * <p>
+ * Every node opens one change stream, shared by all its SSE subscribers through the publisher. The ID of an event is the cluster time
+ * of the insert, which is the same on every node, so a client can resume with its {@code Last-Event-ID} on another node. A change stream
+ * only delivers committed changes, so an event is only published once the whole creation transaction is committed.
+ * <p>
+ * The resume token of the last processed event is saved in a {@link ChangeStreamCheckpoint}: a restarted node resumes the stream after
+ * it, and puts the projects created meanwhile into the replay window. The checkpoint is only read on startup; an error reopens the stream
+ * after the last event processed in memory, with an exponential backoff. When the token has already left the oplog, the checkpoint is
+ * deleted and the stream starts over from the current time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectCreationFeed {
+
+    private static final String STREAM_NAME = "projectCreation";
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ProjectSearchViewUtils projectSearchViewUtils;
+    private final ProjectNameSearchUtils projectNameSearchUtils;
+    private final ProjectEventPublisher projectEventPublisher;
+
+    private final AtomicReference<BsonDocument> resumeToken = new AtomicReference<>();
+    private Disposable subscription;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        // the checkpoint is only read once, a reopened stream resumes after the last event processed in memory
+        subscription = mongoTemplate.findById(STREAM_NAME, ChangeStreamCheckpoint.class)
+                .doOnNext(checkpoint -> resumeToken.set(BsonDocument.parse(checkpoint.getResumeToken())))
+                .doOnNext(checkpoint -> log.info("Resuming the project feed after event {{}}", checkpoint.getLastEventId()))
+                .retryWhen(backoff("Reading the checkpoint of the project feed failed, retrying"))
+                .thenMany(Flux.defer(this::watch)
+                        .retryWhen(backoff("The project feed failed, reopening it")))
+                .subscribe();
+    }
+
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null)
+            subscription.dispose();
+    }
+
+
+    private Flux<Void> watch() {
+        // only the inserts of new projects
+        ChangeStreamOptions.ChangeStreamOptionsBuilder options = ChangeStreamOptions.builder()
+                .filter(Aggregation.newAggregation(Aggregation.match(Criteria.where("operationType").is("insert"))));
+        BsonDocument token = resumeToken.get();
+        if (token != null)
+            options.resumeAfter(token);
+
+        return mongoTemplate.changeStream(mongoTemplate.getCollectionName(Project.class), options.build(), Project.class)
+                // one event after the other, so the checkpoint never gets ahead of a published event
+                .concatMap(this::publish)
+                .onErrorResume(this::isHistoryLost, error -> {
+                    log.warn("The resume token of the project feed is no longer in the oplog, projects created meanwhile are not streamed");
+                    // the stream is reopened from the current time, and a restarted node must not resume after the lost token either
+                    return deleteCheckpoint(resumeToken.getAndSet(null))
+                            .then(Mono.error(error));
+                });
+    }
+
+
+    private Mono<Void> publish(ChangeStreamEvent<Project> event) {
+        Project project = event.getBody();
+        BsonDocument token = event.getResumeToken().asDocument();
+        long eventId = event.getRaw().getClusterTime().getValue();
+
+        projectNameSearchUtils.index(project);
+
+        // the search view is committed in the same transaction as the project: one read by ID, no member is looked up
+        return projectSearchViewUtils.findSearchResponses(List.of(project.getProjectId())).next()
+                .doOnNext(searchResponse -> projectEventPublisher.publish(eventId, searchResponse))
+                .then(saveCheckpoint(token, eventId))
+                .doOnSuccess(unused -> resumeToken.set(token));
+    }
+
+
+    /**
+     * Saves the resume token, unless another node has already saved a later one.
+     */
+    private Mono<Void> saveCheckpoint(BsonDocument token, long eventId) {
+        Query query = Query.query(Criteria.where("_id").is(STREAM_NAME).and("lastEventId").lt(eventId));
+        Update update = new Update()
+                .set("resumeToken", token.toJson())
+                .set("lastEventId", eventId)
+                .set("updatedAt", LocalDateTime.now());
+
+        return mongoTemplate.findAndModify(query, update, FindAndModifyOptions.options().upsert(true), ChangeStreamCheckpoint.class)
+                .onErrorResume(DuplicateKeyException.class, error -> Mono.empty())
+                .then();
+    }
+
+
+    /**
+     * Deletes the checkpoint holding the lost resume token, unless another node has already saved a later one.
+     */
+    private Mono<Void> deleteCheckpoint(BsonDocument lostToken) {
+        if (lostToken == null)
+            return Mono.empty();
+        Query query = Query.query(Criteria.where("_id").is(STREAM_NAME).and("resumeToken").is(lostToken.toJson()));
+        return mongoTemplate.remove(query, ChangeStreamCheckpoint.class).then();
+    }
+
+
+    private static Retry backoff(String message) {
+        return Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                .maxBackoff(Duration.ofMinutes(1))
+                .doBeforeRetry(signal -> log.warn("{}: {}", message, signal.failure().getMessage()));
+    }
+
+
+    private boolean isHistoryLost(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException && mongoException.getCode() == CHANGE_STREAM_HISTORY_LOST)
+                return true;
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.dev.vault.util.project;
+
+import com.dev.vault.helper.payload.response.project.SearchResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes the newly created projects to the {@code /api/v1/search_project/stream} subscribers, as server-sent events identified by the
+ * cluster time of the insert (see {@link ProjectCreationFeed}).
+ * <p>
+ * Only a bounded window of the last events is retained: at most {@code project.events.replay-size} events, for at most
+ * {@code project.events.replay-max-age}. A client reconnecting with the {@code Last-Event-ID} header gets the retained events after
+ * that ID, and then the live ones; a new client only gets the live ones.
+ * <p>
+ * Every subscriber reads the retained window right away into its own buffer of {@code project.events.subscriber-buffer} events,
+ * which drops its oldest events when the client is too slow (counted as {@code devvault.project.events.dropped}); so a slow client
+ * never pins the history, nor more than its own buffer, in memory.
+ */
+@Slf4j
+@Component
+public class ProjectEventPublisher {
+
+    public static final String PROJECT_CREATED_EVENT = "project-created";
+
+    private final Sinks.Many<ServerSentEvent<SearchResponse>> projectSink;
+    private final AtomicLong lastPublishedId = new AtomicLong();
+    private final Counter droppedEvents;
+    private final int subscriberBufferSize;
+
+
+    public ProjectEventPublisher(MeterRegistry meterRegistry,
+                                 @Value("${project.events.replay-size}") int replaySize,
+                                 @Value("${project.events.replay-max-age}") Duration replayMaxAge,
+                                 @Value("${project.events.subscriber-buffer}") int subscriberBufferSize) {
+        this.projectSink = Sinks.many().replay().limit(replaySize, replayMaxAge);
+        this.droppedEvents = Counter.builder("devvault.project.events.dropped")
+                .description("project events dropped for slow subscribers")
+                .register(meterRegistry);
+        this.subscriberBufferSize = subscriberBufferSize;
+    }
+
+
+    /**
+     * Publishes a newly created project. The events must be published in ascending ID order, which the single change stream guarantees.
+     *
+     * @param eventId        the ID of the event, increasing.
+     * @param searchResponse the newly created project.
+     */
+    public void publish(long eventId, SearchResponse searchResponse) {
+        ServerSentEvent<SearchResponse> event = ServerSentEvent.builder(searchResponse)
+                .id(Long.toString(eventId))
+                .event(PROJECT_CREATED_EVENT)
+                .build();
+
+        lastPublishedId.accumulateAndGet(eventId, Math::max);
+        projectSink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+
+
+    /**
+     * Subscribes to the project events after the given event ID.
+     *
+     * @param lastEventId the value of the {@code Last-Event-ID} header of a reconnecting client; null (or not a valid ID) for a new client.
+     * @return a {@link Flux} of the retained events after {@code lastEventId} followed by the live events.
+     */
+    public Flux<ServerSentEvent<SearchResponse>> subscribe(String lastEventId) {
+        return Flux.defer(() -> {
+            long after = parseEventId(lastEventId);
+            return projectSink.asFlux()
+                    .filter(event -> Long.parseLong(event.id()) > after)
+                    .onBackpressureBuffer(subscriberBufferSize, droppedEvent -> droppedEvents.increment(), BufferOverflowStrategy.DROP_OLDEST);
+        });
+    }
+
+
+    private long parseEventId(String lastEventId) {
+        if (lastEventId != null) {
+            try {
+                return Long.parseLong(lastEventId.trim());
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring the invalid Last-Event-ID {{}}", lastEventId);
+            }
+        }
+        // a new client only gets the live events
+        return lastPublishedId.get();
+    }
+
+}
@@ -1,10 +1,7 @@
 package com.dev.vault.util.project;
 
-import com.dev.vault.helper.exception.ResourceAlreadyExistsException;
 import com.dev.vault.helper.payload.request.project.ProjectDto;
-import com.dev.vault.helper.payload.request.project.ProjectMembersDto;
 import com.dev.vault.helper.payload.request.user.UserDto;
-import com.dev.vault.helper.payload.response.project.SearchResponse;
 import com.dev.vault.model.domain.project.JoinProjectRequest;
 import com.dev.vault.model.domain.project.Project;
 import com.dev.vault.model.domain.relationship.ProjectMembers;
@@ -23,7 +20,6 @@ import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -39,7 +35,6 @@ public class ProjectManagementUtilsImpl implements ProjectUtils {
     private final UserProjectRoleReactiveRepository userProjectRoleReactiveRepository;
     private final ProjectReactiveRepository projectReactiveRepository;
     private final ModelMapper modelMapper;
-    private final ProjectUtilsImpl projectUtils;
     private final UserReactiveRepository userReactiveRepository;
     private final ProjectMembersReactiveRepository projectMembersRepository;
 
@@ -70,43 +65,6 @@ public class ProjectManagementUtilsImpl implements ProjectUtils {
     }
 
 
-    /**
-     * Emit the newly created project to the projectSink.
-     */
-    @Override
-    public void emitNewlyCreatedProject(User user, Project project) {
-        getUserDtoFlux(project).collectList()
-                .map(userDtos -> {
-                    SearchResponse searchResponse = SearchResponse.builder()
-                            .projectId(project.getProjectId())
-                            .projectName(project.getProjectName())
-                            .projectDescription(project.getDescription())
-                            .leaderEmail(user.getUsername())
-                            .members(new ProjectMembersDto(userDtos))
-                            .build();
-                    projectUtils.projectSink.emitNext(searchResponse, Sinks.EmitFailureHandler.FAIL_FAST);
-                    log.info("emitting newly created project, projectMembers: {{}}", searchResponse.getMembers().getProjectMembers());
-                    return Mono.empty();
-                }).subscribe();
-    }
-
-
-    /**
-     * Check if a {@link Project} with the same name already exists
-     */
-    @Override
-    public Mono<Boolean> checkIfProjectExists(ProjectDto projectDto) {
-        return projectReactiveRepository.existsByProjectNameIgnoreCase(projectDto.getProjectName())
-                .flatMap(exists -> {
-                    if (exists) {
-                        log.info("⚠️this project already exists! provide a unique name");
-                        return Mono.error(new ResourceAlreadyExistsException("Project", "Project Name", projectDto.getProjectName()));
-                    }
-                    return Mono.just(false);
-                });
-    }
-
-
     /**
      * Create the {@link Project} object and set the leader to the current user
      */
@@ -114,6 +72,7 @@ public class ProjectManagementUtilsImpl implements ProjectUtils {
     public Project createProjectObject(ProjectDto projectDto, User currentUser) {
         Project project = modelMapper.map(projectDto, Project.class);
         project.setProjectId(UUID.randomUUID().toString());
+        project.setProjectNameKey(Project.toNameKey(project.getProjectName()));
         project.setCreatedAt(LocalDateTime.now());
         project.setLeaderEmail(currentUser.getEmail());
         project.incrementMemberCount();
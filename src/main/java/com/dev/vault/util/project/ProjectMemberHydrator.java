@@ -0,0 +1,112 @@
+package com.dev.vault.util.project;
+
+import com.dev.vault.helper.payload.request.project.ProjectMembersDto;
+import com.dev.vault.helper.payload.request.user.UserDto;
+import com.dev.vault.helper.payload.response.project.SearchResponse;
+import com.dev.vault.model.domain.project.Project;
+import com.dev.vault.model.domain.relationship.ProjectMembers;
+import com.dev.vault.model.domain.user.User;
+import com.dev.vault.repository.mappings.ProjectMembersReactiveRepository;
+import com.dev.vault.repository.user.UserReactiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import static com.dev.vault.model.enums.JoinStatus.DEFAULT;
+
+/**
+ * Builds the {@link SearchResponse} of projects together with their members, in batches.
+ * <p>
+ * The projects are gathered in batches of {@value #BATCH_SIZE}; for every batch the memberships of all its projects are loaded with
+ * one {@code $in} query, then the profiles of all the referenced users with another one. So a batch costs two queries, instead of one
+ * query per project plus one per member.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectMemberHydrator {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final ProjectMembersReactiveRepository projectMembersReactiveRepository;
+    private final UserReactiveRepository userReactiveRepository;
+
+
+    /**
+     * Builds the {@link SearchResponse} of every project, in the order of the projects.
+     *
+     * @param projects the projects to build the responses of.
+     * @return a {@link Flux} of the responses, with the members of every project.
+     */
+    public Flux<SearchResponse> hydrate(Flux<Project> projects) {
+        return projects.buffer(BATCH_SIZE)
+                .concatMap(this::hydrateBatch);
+    }
+
+
+    private Flux<SearchResponse> hydrateBatch(List<Project> projects) {
+        List<String> projectIds = projects.stream().map(Project::getProjectId).toList();
+
+        // the member ids of every project, in the order of the memberships
+        Mono<Map<String, List<String>>> memberIdsMono = projectMembersReactiveRepository.findMembershipsByProjectIdIn(projectIds)
+                .collect(Collectors.groupingBy(ProjectMembers::getProjectId,
+                        Collectors.mapping(ProjectMembers::getUserId, Collectors.toList())));
+
+        return memberIdsMono.flatMapMany(memberIds -> {
+            List<String> userIds = memberIds.values().stream()
+                    .flatMap(List::stream)
+                    .distinct()
+                    .toList();
+
+            // the profiles of all the members of the batch
+            return userReactiveRepository.findMemberProfilesByUserIdIn(userIds)
+                    .collectMap(User::getUserId, this::buildUserDto)
+                    .flatMapIterable(userDtos -> projects.stream()
+                            .map(project -> buildSearchResponse(project, memberIds.getOrDefault(project.getProjectId(), List.of()), userDtos))
+                            .toList()
+                    );
+        });
+    }
+
+
+    private SearchResponse buildSearchResponse(Project project, List<String> memberIds, Map<String, UserDto> userDtos) {
+        // a membership of a deleted user is skipped
+        List<UserDto> members = memberIds.stream()
+                .map(userDtos::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return SearchResponse.builder()
+                .projectId(project.getProjectId())
+                .projectName(project.getProjectName())
+                .projectDescription(project.getDescription())
+                .leaderEmail(project.getLeaderEmail())
+                .members(new ProjectMembersDto(members))
+                .build();
+    }
+
+
+    /**
+     * Builds the member entry of a user, as in the {@link SearchResponse}.
+     *
+     * @param user the member, with at least its username, major and education.
+     * @return the member entry.
+     */
+    public UserDto buildUserDto(User user) {
+        return UserDto.builder()
+                .username(user.getUsername())
+                .major(user.getMajor())
+                .education(user.getEducation())
+                .role(user.getUserRoles().stream()
+                        .map(userRole -> userRole.getRoles().getRole().name())
+                        .toList()
+                ).joinStatus(DEFAULT)
+                .build();
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.dev.vault.util.project;
+
+import com.dev.vault.helper.exception.ResourceNotFoundException;
+import com.dev.vault.model.domain.project.Project;
+import com.dev.vault.repository.project.ProjectReactiveRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonTimestamp;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the {@link Project#getMembersVersion() members version} of the projects in memory, so a client polling the member listing of a
+ * project with the ETag it got last time is answered {@code 304 Not Modified} without a single database read.
+ * <p>
+ * A version is loaded from the project on its first request, then kept up to date by a MongoDB change stream on the updates of
+ * {@code membersVersion}, so a member joining on any node moves the version on every node. A version only ever moves forward, so a
+ * request recording the version it read concurrently with an update can't bring an older one back.
+ * <p>
+ * The stream starts a little before the map is (re)filled, so no update happening meanwhile can be missed: an event older than the loaded
+ * version is simply ignored. While the stream is down the map is cleared and not used, every request reads the version from the project.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProjectMembersVersionUtils {
+
+    /* how far back in time the stream starts, to make up for the clock skew between this node and the cluster */
+    private static final Duration CLOCK_SKEW_MARGIN = Duration.ofSeconds(5);
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ProjectReactiveRepository projectReactiveRepository;
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+    private volatile boolean watching;
+    private Disposable subscription;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = Flux.defer(this::watch)
+                .doOnError(error -> stopWatching())
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofMinutes(1))
+                        .doBeforeRetry(signal -> log.warn("The members version stream failed, reopening it: {}", signal.failure().getMessage())))
+                .subscribe();
+    }
+
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null)
+            subscription.dispose();
+        stopWatching();
+    }
+
+
+    /**
+     * Returns the current members version of a project, from memory when it's known, otherwise from the project.
+     *
+     * @param projectId the ID of the project.
+     * @return a {@link Mono} of the members version of the project.
+     * @throws ResourceNotFoundException if the project can't be found.
+     */
+    public Mono<Long> getMembersVersion(String projectId) {
+        Long version = watching ? versions.get(projectId) : null;
+        if (version != null)
+            return Mono.just(version);
+
+        return projectReactiveRepository.findMembersVersionByProjectId(projectId)
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException("Project", "ProjectID", projectId)))
+                .map(project -> {
+                    record(projectId, project.getMembersVersion());
+                    return project.getMembersVersion();
+                });
+    }
+
+
+    /**
+     * Forgets the version of a project whose members have just changed on this node, so the next request reads it from the project
+     * instead of waiting for the change stream.
+     *
+     * @param projectId the ID of the project.
+     */
+    public void invalidate(String projectId) {
+        versions.remove(projectId);
+    }
+
+
+    private Flux<Void> watch() {
+        // only the updates moving the members version, from a little before the map is cleared
+        Instant startAt = Instant.now().minus(CLOCK_SKEW_MARGIN);
+        ChangeStreamOptions options = ChangeStreamOptions.builder()
+                .filter(Aggregation.newAggregation(Aggregation.match(Criteria.where("operationType").is("update")
+                        .and("updateDescription.updatedFields.membersVersion").exists(true))))
+                .resumeAt(new BsonTimestamp((int) startAt.getEpochSecond(), 0))
+                .build();
+
+        return mongoTemplate.changeStream(mongoTemplate.getCollectionName(Project.class), options, Document.class)
+                .doOnSubscribe(unused -> {
+                    versions.clear();
+                    watching = true;
+                })
+                .doOnNext(this::apply)
+                .thenMany(Flux.empty());
+    }
+
+
+    private void apply(ChangeStreamEvent<Document> event) {
+        String projectId = event.getRaw().getDocumentKey().getString("_id").getValue();
+        BsonValue version = event.getRaw().getUpdateDescription().getUpdatedFields().get("membersVersion");
+        // kept even for a project not requested yet: a request reading the project meanwhile may still record an older version
+        versions.merge(projectId, version.asNumber().longValue(), Math::max);
+    }
+
+
+    private void record(String projectId, long version) {
+        if (watching)
+            versions.merge(projectId, version, Math::max);
+    }
+
+
+    private void stopWatching() {
+        watching = false;
+        versions.clear();
+    }
+
+}
@@ -0,0 +1,196 @@
+package com.dev.vault.util.project;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * An in-memory trigram index of the project names, answering ranked prefix, substring and fuzzy (typo-tolerant) searches.
+ * <p>
+ * A name is normalized (lowercase, without accents, runs of non-alphanumeric characters collapsed to one space) and padded with
+ * two leading spaces and one trailing space, then split into its distinct trigrams: {@code "Dev Vault"} gives {@code "  d", " de",
+ * "dev", "ev ", "v v", ...}. The leading padding makes one- and two-letter queries match the start of a name. Every trigram maps to
+ * the postings list of the names containing it.
+ * <p>
+ * A query is normalized and padded the same way, except for the trailing space, since the user may still be typing the last word.
+ * The names sharing at least half of the trigrams of the query are ranked by the Jaccard similarity of their trigrams, plus a bonus
+ * for an exact match, a prefix match, and a substring match; only the best {@code limit} names are kept, in a bounded heap.
+ * <p>
+ * A search only touches the postings of the trigrams of the query, so it doesn't depend on the number of names that share none.
+ * Names are added far less often than they are searched: the index is guarded by a read-write lock.
+ */
+public class ProjectNameIndex {
+
+    private static final double MIN_MATCHING_TRIGRAMS = 0.5;
+    private static final double EXACT_MATCH_BONUS = 3;
+    private static final double PREFIX_MATCH_BONUS = 2;
+    private static final double SUBSTRING_MATCH_BONUS = 1;
+    private static final Pattern ACCENTS = Pattern.compile("\\p{M}");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /* the names are numbered in insertion order; a replaced name is left as a null tombstone */
+    private final List<String> names = new ArrayList<>();
+    private final List<String> projectIds = new ArrayList<>();
+    private final IntList trigramCounts = new IntList();
+    private final Map<String, Integer> nameNumbers = new HashMap<>();
+    private final Map<String, IntList> postings = new HashMap<>();
+
+
+    /**
+     * Adds the name of a project, or replaces it if the project is already indexed under another name.
+     *
+     * @param projectId   the ID of the project.
+     * @param projectName the name of the project.
+     */
+    public void put(String projectId, String projectName) {
+        String name = normalize(projectName);
+        Set<String> trigrams = trigrams("  " + name + " ");
+
+        lock.writeLock().lock();
+        try {
+            Integer previous = nameNumbers.get(projectId);
+            if (previous != null) {
+                if (name.equals(names.get(previous)))
+                    return;
+                names.set(previous, null);
+            }
+
+            int number = names.size();
+            names.add(name);
+            projectIds.add(projectId);
+            trigramCounts.add(trigrams.size());
+            nameNumbers.put(projectId, number);
+            trigrams.forEach(trigram -> postings.computeIfAbsent(trigram, key -> new IntList()).add(number));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Returns the IDs of the projects whose name best matches the query, best match first.
+     *
+     * @param query the (possibly partial or misspelled) project name to search for.
+     * @param limit the maximum number of projects to return.
+     * @return the IDs of at most {@code limit} matching projects; empty if the query has no letter or digit.
+     */
+    public List<String> search(String query, int limit) {
+        String normalizedQuery = normalize(query);
+        if (normalizedQuery.isEmpty() || limit <= 0)
+            return List.of();
+
+        Set<String> queryTrigrams = trigrams("  " + normalizedQuery);
+        int minMatchingTrigrams = Math.max(1, (int) Math.ceil(queryTrigrams.size() * MIN_MATCHING_TRIGRAMS));
+
+        lock.readLock().lock();
+        try {
+            // count the trigrams every name shares with the query
+            int[] matchingTrigrams = new int[names.size()];
+            IntList candidates = new IntList();
+            for (String trigram : queryTrigrams) {
+                IntList posting = postings.get(trigram);
+                if (posting == null)
+                    continue;
+                for (int i = 0; i < posting.size; i++) {
+                    if (matchingTrigrams[posting.values[i]]++ == 0)
+                        candidates.add(posting.values[i]);
+                }
+            }
+
+            // keep the best names in a min-heap of at most `limit` matches
+            PriorityQueue<Match> best = new PriorityQueue<>(limit + 1, Comparator.comparingDouble(Match::score));
+            for (int i = 0; i < candidates.size; i++) {
+                int number = candidates.values[i];
+                int matching = matchingTrigrams[number];
+                if (matching < minMatchingTrigrams)
+                    continue;
+
+                // the bonus is only computed for the names that can still make it into the heap
+                double similarity = (double) matching / (queryTrigrams.size() + trigramCounts.values[number] - matching);
+                if (best.size() == limit && similarity + EXACT_MATCH_BONUS <= best.peek().score())
+                    continue;
+                String name = names.get(number);
+                if (name == null)
+                    continue;
+                double score = similarity + bonus(name, normalizedQuery);
+                if (best.size() == limit && score <= best.peek().score())
+                    continue;
+
+                best.add(new Match(number, score));
+                if (best.size() > limit)
+                    best.poll();
+            }
+
+            List<Match> matches = new ArrayList<>(best);
+            matches.sort(Comparator.comparingDouble(Match::score).reversed()
+                    .thenComparing(match -> names.get(match.number())));
+            return matches.stream()
+                    .map(match -> projectIds.get(match.number()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * @return the number of indexed projects.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nameNumbers.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    private static double bonus(String name, String query) {
+        if (name.equals(query))
+            return EXACT_MATCH_BONUS;
+        if (name.startsWith(query))
+            return PREFIX_MATCH_BONUS;
+        if (name.contains(query))
+            return SUBSTRING_MATCH_BONUS;
+        return 0;
+    }
+
+
+    static String normalize(String value) {
+        if (value == null)
+            return "";
+        String withoutAccents = ACCENTS.matcher(Normalizer.normalize(value, Normalizer.Form.NFKD)).replaceAll("");
+        return SEPARATORS.matcher(withoutAccents.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+
+    private static Set<String> trigrams(String padded) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++)
+            trigrams.add(padded.substring(i, i + 3));
+        return trigrams;
+    }
+
+
+    private record Match(int number, double score) {
+    }
+
+
+    /* a growable array of ints, so the postings don't box every name number */
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.dev.vault.util.project;
+
+import com.dev.vault.model.domain.project.Project;
+import com.dev.vault.repository.project.ProjectReactiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * A utility class for searching the projects by name, without scanning the {@code project} collection.
+ * <p>
+ * The names of all the projects are kept in a {@link ProjectNameIndex} for the searches and in a {@link ProjectNameTrie} for the
+ * autocomplete, both loaded on startup. They are kept current by {@code createProject} on the node creating the project, and by
+ * the {@link ProjectCreationFeed} on every node. Neither a search nor an autocomplete reads the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectNameSearchUtils implements ApplicationRunner {
+
+    private final ProjectReactiveRepository projectReactiveRepository;
+
+    private final ProjectNameIndex projectNameIndex = new ProjectNameIndex();
+    private final ProjectNameTrie projectNameTrie = new ProjectNameTrie();
+
+
+    /**
+     * Loads the names of all the projects into the index; only the ID and the name of the projects are read.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.currentTimeMillis();
+        projectReactiveRepository.findAllProjectNames()
+                .doOnNext(this::index)
+                .doOnError(error -> log.error("Error occurred while loading the project names: {}", error.getMessage()))
+                .blockLast();
+        log.info("Project name index loaded: {{}} projects in {{}} ms", projectNameIndex.size(), System.currentTimeMillis() - startedAt);
+    }
+
+
+    /**
+     * Adds (or replaces) the name of a project in the search index and the autocomplete trie. Indexing a project twice is harmless.
+     *
+     * @param project the project, with at least its ID and name.
+     */
+    public void index(Project project) {
+        if (project.getProjectName() != null) {
+            projectNameIndex.put(project.getProjectId(), project.getProjectName());
+            projectNameTrie.add(project.getProjectName());
+        }
+    }
+
+
+    /**
+     * Returns the project names starting with the given prefix, shortest first; nothing is read from the database.
+     *
+     * @param prefix the prefix typed so far; the case, accents and punctuation are ignored.
+     * @param limit  the maximum number of names to return, at most {@value ProjectNameTrie#SUGGESTIONS_PER_NODE}.
+     * @return the matching project names.
+     */
+    public List<String> autocomplete(String prefix, int limit) {
+        return projectNameTrie.suggest(prefix, limit);
+    }
+
+
+    /**
+     * Returns the IDs of the projects whose name best matches the query: prefix, substring and misspelled matches, best match first.
+     * Nothing is read from the database.
+     *
+     * @param query the (possibly partial) project name to search for.
+     * @param limit the maximum number of projects to return.
+     * @return the IDs of at most {@code limit} matching projects, best match first.
+     */
+    public List<String> search(String query, int limit) {
+        return projectNameIndex.search(query, limit);
+    }
+
+}
@@ -0,0 +1,205 @@
+package com.dev.vault.util.project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory radix trie of the normalized project names, answering the autocomplete of a prefix in {@code O(prefix length)}.
+ * <p>
+ * The trie is compacted: a chain of nodes with a single child is stored as one node whose edge is labelled with the whole chain, so
+ * there are at most two nodes per name. The children of a node are kept in a sorted array instead of a map.
+ * <p>
+ * Every node also keeps the best {@value #SUGGESTIONS_PER_NODE} names of its subtree (shortest first, then alphabetically), updated
+ * on every insertion along the path of the new name. So the suggestions of a prefix are read from the node the prefix ends in,
+ * without walking its subtree. Names are never removed, only added.
+ */
+public class ProjectNameTrie {
+
+    public static final int SUGGESTIONS_PER_NODE = 10;
+
+    private static final Comparator<Suggestion> SUGGESTION_ORDER = Comparator
+            .comparingInt((Suggestion suggestion) -> suggestion.key().length())
+            .thenComparing(Suggestion::key)
+            .thenComparing(Suggestion::projectName);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node("");
+    private int size;
+
+
+    /**
+     * Adds a project name; adding the same name twice is a no-op.
+     *
+     * @param projectName the name of the project.
+     */
+    public void add(String projectName) {
+        String key = ProjectNameIndex.normalize(projectName);
+        if (key.isEmpty())
+            return;
+        Suggestion suggestion = new Suggestion(key, projectName);
+
+        lock.writeLock().lock();
+        try {
+            Node node = root;
+            int position = 0;
+            List<Node> path = new ArrayList<>();
+            path.add(node);
+
+            while (position < key.length()) {
+                int index = node.childIndex(key.charAt(position));
+                if (index < 0) {
+                    // no name continues with this character: the rest of the key becomes a leaf
+                    Node leaf = new Node(key.substring(position));
+                    node.insertChild(-index - 1, leaf);
+                    node = leaf;
+                    path.add(node);
+                    break;
+                }
+
+                Node child = node.children[index];
+                int common = commonPrefixLength(child.label, key, position);
+                if (common < child.label.length()) {
+                    // the key leaves the edge in its middle: split the edge there
+                    Node middle = new Node(child.label.substring(0, common));
+                    middle.suggestions = Arrays.copyOf(child.suggestions, child.suggestions.length);
+                    middle.suggestionCount = child.suggestionCount;
+                    child.label = child.label.substring(common);
+                    middle.insertChild(0, child);
+                    node.children[index] = middle;
+                    child = middle;
+                }
+                node = child;
+                path.add(node);
+                position += common;
+            }
+
+            // several names may have the same normalized key
+            if (node.names.contains(projectName))
+                return;
+            node.names.add(projectName);
+            path.forEach(pathNode -> pathNode.offer(suggestion));
+            size++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+
+    /**
+     * Returns the best project names starting with the given prefix, shortest first.
+     *
+     * @param prefix the prefix typed so far; normalized like the names.
+     * @param limit  the maximum number of names to return, at most {@value #SUGGESTIONS_PER_NODE}.
+     * @return the matching project names, as they were added.
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String key = ProjectNameIndex.normalize(prefix);
+        int count = Math.min(limit, SUGGESTIONS_PER_NODE);
+        if (count <= 0)
+            return List.of();
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int position = 0;
+            while (position < key.length()) {
+                int index = node.childIndex(key.charAt(position));
+                if (index < 0)
+                    return List.of();
+
+                Node child = node.children[index];
+                int common = commonPrefixLength(child.label, key, position);
+                // the prefix must either end within the edge, or go through the whole edge
+                if (common < child.label.length() && position + common < key.length())
+                    return List.of();
+                node = child;
+                position += common;
+            }
+
+            return Arrays.stream(node.suggestions, 0, Math.min(count, node.suggestionCount))
+                    .map(Suggestion::projectName)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    /**
+     * @return the number of names added.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+
+    private static int commonPrefixLength(String label, String key, int position) {
+        int length = Math.min(label.length(), key.length() - position);
+        int common = 0;
+        while (common < length && label.charAt(common) == key.charAt(position + common))
+            common++;
+        return common;
+    }
+
+
+    private record Suggestion(String key, String projectName) {
+    }
+
+
+    private static final class Node {
+        private String label;
+        private char[] firstChars = new char[0];
+        private Node[] children = new Node[0];
+        private Suggestion[] suggestions = new Suggestion[0];
+        private int suggestionCount;
+        private final List<String> names = new ArrayList<>(1);
+
+        private Node(String label) {
+            this.label = label;
+        }
+
+        int childIndex(char firstChar) {
+            return Arrays.binarySearch(firstChars, firstChar);
+        }
+
+        void insertChild(int index, Node child) {
+            char[] newFirstChars = new char[firstChars.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(firstChars, 0, newFirstChars, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newFirstChars[index] = child.label.charAt(0);
+            newChildren[index] = child;
+            System.arraycopy(firstChars, index, newFirstChars, index + 1, firstChars.length - index);
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            firstChars = newFirstChars;
+            children = newChildren;
+        }
+
+        /* inserts the suggestion in order, dropping the last one beyond SUGGESTIONS_PER_NODE */
+        void offer(Suggestion suggestion) {
+            int index = Arrays.binarySearch(suggestions, 0, suggestionCount, suggestion, SUGGESTION_ORDER);
+            if (index >= 0)
+                return;
+            int position = -index - 1;
+            if (position >= SUGGESTIONS_PER_NODE)
+                return;
+
+            if (suggestionCount == suggestions.length && suggestions.length < SUGGESTIONS_PER_NODE)
+                suggestions = Arrays.copyOf(suggestions, Math.min(SUGGESTIONS_PER_NODE, Math.max(1, suggestions.length * 2)));
+            int moved = Math.min(suggestionCount, SUGGESTIONS_PER_NODE - 1) - position;
+            System.arraycopy(suggestions, position, suggestions, position + 1, moved);
+            suggestions[position] = suggestion;
+            suggestionCount = Math.min(suggestionCount + 1, SUGGESTIONS_PER_NODE);
+        }
+    }
+
+}
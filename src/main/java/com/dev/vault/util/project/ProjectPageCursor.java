@@ -0,0 +1,67 @@
+package com.dev.vault.util.project;
+
+import com.dev.vault.helper.exception.DevVaultException;
+import com.dev.vault.model.domain.project.Project;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+
+/**
+ * The position of a page of the project listing, sorted by {@code (createdAt desc, projectId desc)}: the sort key of the last
+ * project of the previous page. It's handed to the clients as an opaque, URL-safe string.
+ *
+ * @param createdAt the creation date of the last project of the previous page.
+ * @param projectId the ID of the last project of the previous page.
+ */
+public record ProjectPageCursor(LocalDateTime createdAt, String projectId) {
+
+    private static final String SEPARATOR = ":";
+
+
+    /**
+     * Returns the cursor of the page after the given project.
+     *
+     * @param project the last project of a page.
+     * @return the cursor of the next page.
+     */
+    public static ProjectPageCursor after(Project project) {
+        return new ProjectPageCursor(project.getCreatedAt(), project.getProjectId());
+    }
+
+
+    /**
+     * Decodes a cursor returned by {@link #encode()}.
+     *
+     * @param cursor the encoded cursor.
+     * @return the decoded cursor.
+     * @throws DevVaultException if the cursor is malformed.
+     */
+    public static ProjectPageCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            long createdAtMillis = Long.parseLong(decoded.substring(0, separator));
+
+            // the dates are stored in the system time zone by the Spring Data mapping
+            LocalDateTime createdAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(createdAtMillis), ZoneId.systemDefault());
+            return new ProjectPageCursor(createdAt, decoded.substring(separator + 1));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new DevVaultException("Invalid page cursor: " + cursor);
+        }
+    }
+
+
+    /**
+     * @return the cursor as an opaque, URL-safe string.
+     */
+    public String encode() {
+        // millisecond precision, as stored in MongoDB
+        long createdAtMillis = createdAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAtMillis + SEPARATOR + projectId).getBytes(StandardCharsets.UTF_8));
+    }
+
+}
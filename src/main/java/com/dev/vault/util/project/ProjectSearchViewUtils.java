@@ -0,0 +1,146 @@
+package com.dev.vault.util.project;
+
+import com.dev.vault.helper.payload.request.project.ProjectMembersDto;
+import com.dev.vault.helper.payload.response.project.SearchResponse;
+import com.dev.vault.model.domain.project.Project;
+import com.dev.vault.model.domain.project.ProjectSearchView;
+import com.dev.vault.model.domain.user.User;
+import com.dev.vault.repository.project.ProjectReactiveRepository;
+import com.dev.vault.repository.project.ProjectSearchViewReactiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+
+/**
+ * A utility class for the {@link ProjectSearchView}s: the search responses of the projects, pre-joined with their members.
+ * <p>
+ * A view is inserted with the project on creation, and rebuilt whenever the project gets a member (when a join request is approved). Members are only ever
+ * added, so the number of members is the version of a view: a view is only replaced by one with more members, and two concurrent
+ * rebuilds can't leave the older one in place. A rebuild that fails removes the view instead of leaving it stale.
+ * <p>
+ * The searches read the views by ID; the view of a project that has none yet (created before the views existed, or whose rebuild
+ * failed) is built on that first read.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectSearchViewUtils {
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final ProjectSearchViewReactiveRepository projectSearchViewReactiveRepository;
+    private final ProjectReactiveRepository projectReactiveRepository;
+    private final ProjectMemberHydrator projectMemberHydrator;
+
+
+    /**
+     * Returns the search responses of the given projects, in the given order, from their views.
+     *
+     * @param projectIds the IDs of the projects.
+     * @return a {@link Flux} of the search responses of the existing projects, in the order of {@code projectIds}.
+     */
+    public Flux<SearchResponse> findSearchResponses(List<String> projectIds) {
+        if (projectIds.isEmpty())
+            return Flux.empty();
+
+        return projectSearchViewReactiveRepository.findAllById(projectIds)
+                .map(this::toSearchResponse)
+                .collectMap(SearchResponse::getProjectId)
+                .flatMapMany(searchResponses -> {
+                    // build the missing views
+                    List<String> missingIds = projectIds.stream()
+                            .filter(projectId -> !searchResponses.containsKey(projectId))
+                            .toList();
+                    Mono<Map<String, SearchResponse>> builtMono = missingIds.isEmpty()
+                            ? Mono.just(Map.of())
+                            : projectMemberHydrator.hydrate(projectReactiveRepository.findAllById(missingIds))
+                            .concatMap(searchResponse -> saveView(searchResponse).thenReturn(searchResponse))
+                            .collectMap(SearchResponse::getProjectId);
+
+                    // put the responses back in the order of the IDs
+                    return builtMono.flatMapIterable(built -> projectIds.stream()
+                            .map(projectId -> searchResponses.getOrDefault(projectId, built.get(projectId)))
+                            .filter(Objects::nonNull)
+                            .toList()
+                    );
+                });
+    }
+
+
+    /**
+     * Inserts the view of a newly created project, from the in-memory project and leader; nothing is read.
+     *
+     * @param project the newly created project.
+     * @param leader  the leader of the project, its only member.
+     * @return an empty {@link Mono} completing once the view is inserted.
+     */
+    public Mono<Void> createView(Project project, User leader) {
+        ProjectSearchView view = ProjectSearchView.builder()
+                .projectId(project.getProjectId())
+                .projectName(project.getProjectName())
+                .description(project.getDescription())
+                .leaderEmail(project.getLeaderEmail())
+                .memberCount(1)
+                .members(List.of(projectMemberHydrator.buildUserDto(leader)))
+                .build();
+        return projectSearchViewReactiveRepository.insert(view).then();
+    }
+
+
+    /**
+     * Rebuilds the view of a project from its current members. A failure is logged and removes the view, so it's rebuilt by the
+     * next search instead of staying stale.
+     *
+     * @param project the project whose members have changed.
+     * @return an empty {@link Mono} completing once the view is saved (or removed).
+     */
+    public Mono<Void> refresh(Project project) {
+        return projectMemberHydrator.hydrate(Flux.just(project))
+                .concatMap(this::saveView)
+                .then()
+                .onErrorResume(error -> {
+                    log.error("Error occurred while refreshing the search view of project {{}}: {}", project.getProjectId(), error.getMessage());
+                    return projectSearchViewReactiveRepository.deleteById(project.getProjectId());
+                });
+    }
+
+
+    /**
+     * Saves the view of a project, unless the stored view already has at least as many members.
+     */
+    private Mono<Void> saveView(SearchResponse searchResponse) {
+        int memberCount = searchResponse.getMembers().getProjectMembers().size();
+        Query query = Query.query(Criteria.where("_id").is(searchResponse.getProjectId()).and("memberCount").lt(memberCount));
+        Update update = new Update()
+                .set("projectName", searchResponse.getProjectName())
+                .set("description", searchResponse.getProjectDescription())
+                .set("leaderEmail", searchResponse.getLeaderEmail())
+                .set("memberCount", memberCount)
+                .set("members", searchResponse.getMembers().getProjectMembers());
+
+        // a duplicate key means the stored view is newer
+        return mongoTemplate.upsert(query, update, ProjectSearchView.class)
+                .onErrorResume(DuplicateKeyException.class, error -> Mono.empty())
+                .then();
+    }
+
+
+    private SearchResponse toSearchResponse(ProjectSearchView view) {
+        return SearchResponse.builder()
+                .projectId(view.getProjectId())
+                .projectName(view.getProjectName())
+                .projectDescription(view.getDescription())
+                .leaderEmail(view.getLeaderEmail())
+                .members(new ProjectMembersDto(view.getMembers()))
+                .build();
+    }
+
+}
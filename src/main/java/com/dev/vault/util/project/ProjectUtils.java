@@ -61,16 +61,6 @@ public interface ProjectUtils {
      */
     Mono<Void> performJoinRequestRejectedActions(JoinProjectRequest request);
 
-    /**
-     * Emit the newly created project to the projectSink.
-     */
-    void emitNewlyCreatedProject(User user, Project project);
-
-    /**
-     * Check if a {@link Project} with the same name already exists
-     */
-    Mono<Boolean> checkIfProjectExists(ProjectDto projectDto);
-
     /**
      * Create the {@link Project} object and set the leader to the current user
      */
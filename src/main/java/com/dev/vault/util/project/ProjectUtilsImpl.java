@@ -2,7 +2,6 @@ package com.dev.vault.util.project;
 
 import com.dev.vault.helper.payload.request.project.ProjectDto;
 import com.dev.vault.helper.payload.request.user.UserDto;
-import com.dev.vault.helper.payload.response.project.SearchResponse;
 import com.dev.vault.model.domain.project.JoinProjectRequest;
 import com.dev.vault.model.domain.project.Project;
 import com.dev.vault.model.domain.relationship.ProjectMembers;
@@ -23,7 +22,6 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Sinks;
 
 /**
  * Service implementation for ProjectUtils.
@@ -34,8 +32,6 @@ import reactor.core.publisher.Sinks;
 @Primary
 public class ProjectUtilsImpl implements ProjectUtils {
 
-    public final Sinks.Many<SearchResponse> projectSink = Sinks.many().replay().all();
-
     private final ProjectMembersReactiveRepository projectMembersReactiveRepository;
     private final UserProjectRoleReactiveRepository userProjectRoleReactiveRepository;
     private final ReactiveRepositoryUtils reactiveRepositoryUtils;
@@ -115,16 +111,6 @@ public class ProjectUtilsImpl implements ProjectUtils {
         return null;
     }
 
-    @Override
-    public void emitNewlyCreatedProject(User user, Project project) {
-
-    }
-
-    @Override
-    public Mono<Boolean> checkIfProjectExists(ProjectDto projectDto) {
-        return null;
-    }
-
     @Override
     public Project createProjectObject(ProjectDto projectDto, User currentUser) {
         return null;
@@ -26,6 +26,10 @@ import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -41,6 +45,10 @@ public class ReactiveRepositoryUtils {
     private final ProjectReactiveRepository projectReactiveRepository;
     private final JoinCouponReactiveRepository joinCouponReactiveRepository;
 
+    /* the roles are seeded once and never change; a lookup that failed is not cached */
+    private static final Duration CACHED_ROLE_TTL = Duration.ofHours(1);
+    private final Map<Role, Mono<Roles>> cachedRoles = new ConcurrentHashMap<>();
+
     public Mono<User> find_UserByEmail_OrElseThrow_ResourceNotFoundException(String email) {
         return userReactiveRepository.findByEmail(email)
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("User", "Email", email)))
@@ -53,6 +61,11 @@ public class ReactiveRepositoryUtils {
                 .doOnError(error -> log.error("Error occurred while finding role by role: {}", error.getMessage()));
     }
 
+    public Mono<Roles> find_CachedRoleByRole_OrElseThrow_ResourceNotFoundException(Role role) {
+        return cachedRoles.computeIfAbsent(role, key -> find_RoleByRole_OrElseThrow_ResourceNotFoundException(key)
+                .cache(roles -> CACHED_ROLE_TTL, error -> Duration.ZERO, () -> Duration.ZERO));
+    }
+
     public Flux<Roles> find_AllRoleByRoleId_OrElseThrow_ResourceNotFoundException(String roleId) {
         return rolesReactiveRepository.findAllByRoleId(roleId)
                 .doOnNext(roles -> log.info("Roles found: {}", roles.getRole()))
@@ -98,25 +111,19 @@ public class ReactiveRepositoryUtils {
     }
 
     public Flux<TaskUser> findAll_TaskUsersByTaskId_OrElseThrow_ResourceNotFoundException(String taskId) {
-        return taskUserReactiveRepository.findAllByTask_TaskId(taskId)
-                .switchIfEmpty(Mono.error(new ResourceNotFoundException("TaskUser", "taskId", taskId)))
-                .doOnError(error -> log.error("Error occurred while finding taskUser by taskId: {}", error.getMessage()));
-    }
-
-    public Mono<TaskUser> find_TaskUserByTaskId_OrElseThrow_ResourceNotFoundException(String taskId) {
-        return taskUserReactiveRepository.findTaskUserByTask_TaskId(taskId)
+        return taskUserReactiveRepository.findAllByTaskId(taskId)
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("TaskUser", "taskId", taskId)))
                 .doOnError(error -> log.error("Error occurred while finding taskUser by taskId: {}", error.getMessage()));
     }
 
     public Mono<ProjectTask> find_ProjectTaskByTaskId_OrElseThrow_ResourceNotFoundException(String taskId) {
-        return projectTaskReactiveRepository.findProjectTaskByTask_TaskId(taskId)
-                .switchIfEmpty(Mono.error(new ResourceNotFoundException("TaskUser", "taskId", taskId)))
-                .doOnError(error -> log.error("Error occurred while finding taskUser by taskId: {}", error.getMessage()));
+        return projectTaskReactiveRepository.findByTaskId(taskId)
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException("ProjectTask", "taskId", taskId)))
+                .doOnError(error -> log.error("Error occurred while finding projectTask by taskId: {}", error.getMessage()));
     }
 
     public Mono<TaskUser> find_TaskUserByTaskAndUserId_OrElseThrow_ResourceNotFoundException(String taskId, String userId) {
-        return taskUserReactiveRepository.findByTask_TaskIdAndUser_UserId(taskId, userId)
+        return taskUserReactiveRepository.findByTaskIdAndUserId(taskId, userId)
                 .switchIfEmpty(Mono.error(new ResourceNotFoundException("This User is not assigned to this task!")))
                 .doOnError(error -> log.error("Error occurred while finding taskUser by {taskId, userId}: {}", error.getMessage()));
     }
@@ -0,0 +1,180 @@
+package com.dev.vault.util.scheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An in-memory hierarchical timer wheel with a resolution of one second and a horizon of one day.
+ * <p>
+ * The timers are kept in three wheels: 60 one-second slots, 60 one-minute slots and 24 one-hour slots. A timer is put
+ * into the finest wheel that can hold its deadline, and is cascaded down into the finer wheels as the time advances;
+ * so scheduling, cancelling and expiring a timer are all constant time, no matter how many timers are pending.
+ * <p>
+ * Cancelling (or rescheduling) is lazy: only the deadline of the key is dropped (or replaced), and the stale entry
+ * left in its slot is discarded when that slot is reached.
+ * <p>
+ * The wheel is thread-safe; all the methods are synchronized.
+ *
+ * @param <K> the type of the keys of the timers.
+ */
+public class HierarchicalTimerWheel<K> {
+
+    private static final int SECONDS_PER_MINUTE = 60;
+    private static final int SECONDS_PER_HOUR = 3_600;
+    private static final int[] WHEEL_SIZES = {60, 60, 24};
+
+    /** The span of the wheel; a deadline further than this from the current time can't be scheduled. */
+    public static final long HORIZON_SECONDS = (long) WHEEL_SIZES[2] * SECONDS_PER_HOUR;
+
+    private final List<List<List<Entry<K>>>> wheels = new ArrayList<>();
+    private final Map<K, Long> deadlines = new HashMap<>();
+
+    /** The last second that has been expired. */
+    private long currentSecond;
+
+
+    /**
+     * Creates an empty timer wheel.
+     *
+     * @param nowMillis the current time in epoch milliseconds.
+     */
+    public HierarchicalTimerWheel(long nowMillis) {
+        for (int wheelSize : WHEEL_SIZES) {
+            List<List<Entry<K>>> wheel = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++)
+                wheel.add(new ArrayList<>());
+            wheels.add(wheel);
+        }
+        this.currentSecond = Math.floorDiv(nowMillis, 1_000L);
+    }
+
+
+    /**
+     * Schedules (or reschedules) the timer of the given key. A deadline that has already passed expires on the next {@link #advance(long)}.
+     * <p>
+     * The deadline is rounded up to the next whole second, so a timer never expires before its deadline.
+     *
+     * @param key            the key of the timer.
+     * @param deadlineMillis the deadline in epoch milliseconds.
+     * @return true if the timer has been scheduled; false if the deadline is beyond the horizon, in which case any previous timer of the key is cancelled.
+     */
+    public synchronized boolean schedule(K key, long deadlineMillis) {
+        long deadlineSecond = Math.floorDiv(deadlineMillis + 999L, 1_000L);
+        if (deadlineSecond - currentSecond > HORIZON_SECONDS) {
+            deadlines.remove(key);
+            return false;
+        }
+
+        // the timer is already pending at this deadline, e.g. the same task is loaded again
+        Long previousDeadline = deadlines.put(key, deadlineSecond);
+        if (previousDeadline != null && previousDeadline == deadlineSecond)
+            return true;
+
+        place(new Entry<>(key, deadlineSecond), currentSecond + 1);
+        return true;
+    }
+
+
+    /**
+     * Cancels the timer of the given key, if any.
+     *
+     * @param key the key of the timer.
+     */
+    public synchronized void cancel(K key) {
+        deadlines.remove(key);
+    }
+
+
+    /**
+     * Advances the wheel to the given time and returns the keys whose deadline has been reached, in deadline order.
+     *
+     * @param nowMillis the current time in epoch milliseconds.
+     * @return the keys of the expired timers; empty if none has expired.
+     */
+    public synchronized List<K> advance(long nowMillis) {
+        long nowSecond = Math.floorDiv(nowMillis, 1_000L);
+        List<K> expired = new ArrayList<>();
+
+        // after a pause longer than the horizon every pending timer is due, there is no need to walk all the seconds
+        if (nowSecond - currentSecond > HORIZON_SECONDS) {
+            deadlines.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue())
+                    .forEach(deadline -> expired.add(deadline.getKey()));
+            deadlines.clear();
+            wheels.forEach(wheel -> wheel.forEach(List::clear));
+            currentSecond = nowSecond;
+            return expired;
+        }
+
+        while (currentSecond < nowSecond) {
+            long second = ++currentSecond;
+
+            // cascade the coarser wheels first, so a timer of this second reaches the second wheel before it expires
+            if (second % SECONDS_PER_HOUR == 0)
+                cascade(wheels.get(2).get(slot(second / SECONDS_PER_HOUR, 2)), second);
+            if (second % SECONDS_PER_MINUTE == 0)
+                cascade(wheels.get(1).get(slot(second / SECONDS_PER_MINUTE, 1)), second);
+
+            List<Entry<K>> bucket = wheels.get(0).get(slot(second, 0));
+            for (Entry<K> entry : bucket) {
+                if (isLive(entry)) {
+                    deadlines.remove(entry.key());
+                    expired.add(entry.key());
+                }
+            }
+            bucket.clear();
+        }
+        return expired;
+    }
+
+
+    /**
+     * @return the number of pending timers.
+     */
+    public synchronized int size() {
+        return deadlines.size();
+    }
+
+
+    /**
+     * Puts the entry into the finest wheel that can hold its deadline; {@code fromSecond} is the first second that isn't expired yet.
+     */
+    private void place(Entry<K> entry, long fromSecond) {
+        long target = Math.max(entry.deadlineSecond(), fromSecond);
+
+        if (target - fromSecond < SECONDS_PER_MINUTE)
+            wheels.get(0).get(slot(target, 0)).add(entry);
+        else if (target / SECONDS_PER_MINUTE - fromSecond / SECONDS_PER_MINUTE < WHEEL_SIZES[1])
+            wheels.get(1).get(slot(target / SECONDS_PER_MINUTE, 1)).add(entry);
+        else
+            wheels.get(2).get(slot(target / SECONDS_PER_HOUR, 2)).add(entry);
+    }
+
+
+    private void cascade(List<Entry<K>> bucket, long second) {
+        List<Entry<K>> entries = new ArrayList<>(bucket);
+        bucket.clear();
+        for (Entry<K> entry : entries) {
+            if (isLive(entry))
+                place(entry, second);
+        }
+    }
+
+
+    private boolean isLive(Entry<K> entry) {
+        Long deadline = deadlines.get(entry.key());
+        return deadline != null && deadline == entry.deadlineSecond();
+    }
+
+
+    private static int slot(long units, int wheel) {
+        return (int) Math.floorMod(units, (long) WHEEL_SIZES[wheel]);
+    }
+
+
+    private record Entry<K>(K key, long deadlineSecond) {
+    }
+
+}
@@ -0,0 +1,82 @@
+package com.dev.vault.util.task;
+
+import com.dev.vault.helper.payload.response.task.TaskEventResponse;
+import com.dev.vault.model.domain.task.Task;
+import com.dev.vault.model.enums.TaskEventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.Predicate;
+
+/**
+ * Publishes the {@link TaskEventResponse task events} to the event streams subscribed on this node.
+ * <p>
+ * The events are published by the {@link TaskStatusFeed}, which every node runs on the change stream of the {@code task} collection,
+ * so the subscribers of a node also get the events of the tasks changed on the other nodes; the services never publish directly.
+ * <p>
+ * The events go through a multicast sink that never buffers for its subscribers. Instead, every subscriber gets its own buffer of
+ * {@code task.events.subscriber-buffer} events; when a slow client lets its buffer fill up, its oldest events are dropped (and counted
+ * as {@code devvault.task.events.dropped}), so one slow client neither blocks the publishers nor delays the other clients.
+ */
+@Slf4j
+@Component
+public class TaskEventPublisher {
+
+    private final Sinks.Many<TaskEventResponse> taskEventSink = Sinks.many().multicast().directBestEffort();
+    private final Counter droppedEvents;
+    private final int subscriberBufferSize;
+
+
+    public TaskEventPublisher(MeterRegistry meterRegistry, @Value("${task.events.subscriber-buffer}") int subscriberBufferSize) {
+        this.droppedEvents = Counter.builder("devvault.task.events.dropped")
+                .description("task events dropped for slow subscribers")
+                .register(meterRegistry);
+        this.subscriberBufferSize = subscriberBufferSize;
+    }
+
+
+    /**
+     * Publishes an event about the given task to the current subscribers. Never blocks; an event published while nobody is
+     * subscribed is lost.
+     *
+     * @param eventType the type of the event.
+     * @param task      the task; only its ID, name, project ID, status and status change date are used.
+     */
+    public void publish(TaskEventType eventType, Task task) {
+        TaskEventResponse event = TaskEventResponse.builder()
+                .eventType(eventType)
+                .taskId(task.getTaskId())
+                .taskName(task.getTaskName())
+                .projectId(task.getProjectId())
+                .taskStatus(task.getTaskStatus())
+                .occurredAt(task.getStatusChangedAt() != null ? task.getStatusChangedAt() : LocalDateTime.now())
+                .build();
+
+        // the events are published from several threads, so retry briefly when another thread is emitting
+        taskEventSink.emitNext(event, Sinks.EmitFailureHandler.busyLooping(Duration.ofMillis(100)));
+    }
+
+
+    /**
+     * Subscribes to the events published from now on, with a bounded buffer that drops the oldest events when the subscriber is too slow.
+     * <p>
+     * The events are filtered before they are buffered, so the events the subscriber isn't interested in never take room in its buffer.
+     *
+     * @param filter the events to forward to the subscriber, e.g. the events of its projects.
+     * @return a {@link Flux} of the task events matching the filter.
+     */
+    public Flux<TaskEventResponse> subscribe(Predicate<TaskEventResponse> filter) {
+        return taskEventSink.asFlux()
+                .filter(filter)
+                .onBackpressureBuffer(subscriberBufferSize, droppedEvent -> droppedEvents.increment(), BufferOverflowStrategy.DROP_OLDEST);
+    }
+
+}
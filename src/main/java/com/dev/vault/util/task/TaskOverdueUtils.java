@@ -0,0 +1,131 @@
+package com.dev.vault.util.task;
+
+import com.dev.vault.model.domain.task.Task;
+import com.dev.vault.repository.task.TaskReactiveRepository;
+import com.dev.vault.util.scheduler.HierarchicalTimerWheel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static com.dev.vault.model.enums.TaskStatus.IN_PROGRESS;
+
+/**
+ * A utility class for detecting the overdue tasks at their due time.
+ * <p>
+ * The due dates of the {@link com.dev.vault.model.enums.TaskStatus#IN_PROGRESS IN_PROGRESS} tasks due within the horizon of a
+ * {@link HierarchicalTimerWheel} are kept in memory. The wheel is loaded from the {@code taskStatus_dueDate} index, and is kept
+ * current by the task services whenever a task is created, updated, completed or deleted. Advancing the wheel hands out the
+ * tasks whose due date has been reached, which are then marked with one {@code updateMany} per batch; nothing is read from the
+ * database while no task is due.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskOverdueUtils {
+
+    private final TaskReactiveRepository taskReactiveRepository;
+
+    private final HierarchicalTimerWheel<String> dueDateWheel = new HierarchicalTimerWheel<>(System.currentTimeMillis());
+
+    private static final int OVERDUE_BATCH_SIZE = 500;
+
+
+    /**
+     * Loads the {@code IN_PROGRESS} tasks due within the horizon of the wheel (including the ones that are already past their
+     * due date) into the wheel. Only the ID and the due date of the tasks are read, from the index alone.
+     * <p>
+     * Tasks due beyond the horizon are picked up by a later load, so this has to run more often than the horizon elapses.
+     *
+     * @param now the current date and time.
+     * @return a {@link Flux} emitting, for every task read, whether its timer has been scheduled.
+     */
+    public Flux<Boolean> loadDueTasks(LocalDateTime now) {
+        LocalDateTime horizon = now.plusSeconds(HierarchicalTimerWheel.HORIZON_SECONDS - 1);
+
+        return taskReactiveRepository.findDueDatesByTaskStatusAndDueDateBefore(IN_PROGRESS, horizon)
+                .map(task -> dueDateWheel.schedule(task.getTaskId(), toEpochMillis(task.getDueDate())));
+    }
+
+
+    /**
+     * Advances the wheel to {@code now} and returns the IDs of the tasks whose due date has been reached since the last call.
+     * Every due task is returned once; nothing is read from the database.
+     *
+     * @param now the current date and time.
+     * @return the IDs of the due tasks, in due date order.
+     */
+    public List<String> pollDueTasks(LocalDateTime now) {
+        return dueDateWheel.advance(toEpochMillis(now));
+    }
+
+
+    /**
+     * Marks the given due tasks as {@code OVERDUE}, sets their {@code hasOverdue} flag and their {@code completionDate}, and
+     * returns the tasks marked by this call. The batches are written one after the other.
+     * <p>
+     * The update only matches tasks that are still {@code IN_PROGRESS} and actually past their due date, so a timer that went
+     * stale (e.g. the task was changed by another node) doesn't mark anything. The {@code completionDate} it writes is the marker
+     * used to read the marked IDs back.
+     *
+     * @param taskIds the IDs of the due tasks, see {@link #pollDueTasks(LocalDateTime)}.
+     * @param now     the current date and time.
+     * @return a {@link Flux} of the newly overdue tasks, with only their ID, name, project ID and status.
+     */
+    public Flux<Task> markOverdueTasks(List<String> taskIds, LocalDateTime now) {
+        // MongoDB stores dates with millisecond precision, the marker must survive the round trip to be matched
+        LocalDateTime markedAt = now.truncatedTo(ChronoUnit.MILLIS);
+
+        return Flux.fromIterable(taskIds)
+                .buffer(OVERDUE_BATCH_SIZE)
+
+                // mark each batch with one updateMany, then read back the IDs this run has actually marked
+                .concatMap(batch -> taskReactiveRepository.markOverdueByTaskIdIn(batch, markedAt)
+                        .filter(modifiedCount -> modifiedCount > 0)
+                        .flatMapMany(modifiedCount -> taskReactiveRepository.findSummariesByTaskIdInAndOverdueMarkedAt(batch, markedAt))
+                );
+    }
+
+
+    /**
+     * Keeps the timer of the given task current: schedules (or reschedules) it at the due date of an {@code IN_PROGRESS} task,
+     * and cancels it for any other status.
+     *
+     * @param task the created or updated task.
+     */
+    public void trackDueDate(Task task) {
+        if (task.getTaskStatus() == IN_PROGRESS && task.getDueDate() != null)
+            dueDateWheel.schedule(task.getTaskId(), toEpochMillis(task.getDueDate()));
+        else
+            dueDateWheel.cancel(task.getTaskId());
+    }
+
+
+    /**
+     * Cancels the timer of the given task, if any.
+     *
+     * @param taskId the ID of the completed or deleted task.
+     */
+    public void untrackDueDate(String taskId) {
+        dueDateWheel.cancel(taskId);
+    }
+
+
+    /**
+     * @return the number of tasks whose due date is being tracked.
+     */
+    public int trackedTaskCount() {
+        return dueDateWheel.size();
+    }
+
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+}
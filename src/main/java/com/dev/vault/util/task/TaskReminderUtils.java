@@ -0,0 +1,180 @@
+package com.dev.vault.util.task;
+
+import com.dev.vault.helper.payload.request.email.Email;
+import com.dev.vault.model.domain.relationship.TaskUser;
+import com.dev.vault.model.domain.task.Task;
+import com.dev.vault.model.domain.user.User;
+import com.dev.vault.repository.mappings.TaskUserReactiveRepository;
+import com.dev.vault.repository.task.TaskReactiveRepository;
+import com.dev.vault.repository.user.UserReactiveRepository;
+import com.dev.vault.service.module.mail.MailService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * A utility class for reminding the assignees of the tasks approaching their due date.
+ * <p>
+ * The reminder windows are configured by {@code task.reminder.windows} (e.g. {@code 24h, 1h}). Every {@code IN_PROGRESS} task
+ * carries a reminder watermark: the date and time its next reminder is due, i.e. its due date minus the widest window not reminded yet.
+ * The watermark is indexed (sparse, it's removed once there is no reminder left), so a run only reads the tasks whose reminder is due
+ * by an index range on it, and never the whole tasks collection.
+ * <p>
+ * A due task is reminded for the tightest window it has entered, so a task created an hour before its due date only gets the
+ * {@code 1h} reminder. The watermark is advanced with a conditional update before the reminder is sent, which dedupes the reminders
+ * across runs and nodes; all the reminders of a run are then sent as one email per assignee.
+ */
+@Slf4j
+@Service
+public class TaskReminderUtils {
+
+    private final TaskReactiveRepository taskReactiveRepository;
+    private final TaskUserReactiveRepository taskUserReactiveRepository;
+    private final UserReactiveRepository userReactiveRepository;
+    private final MailService mailService;
+
+    /** The reminder windows, widest first. */
+    private final List<Duration> reminderWindows;
+
+    private static final int REMINDER_BATCH_SIZE = 500;
+    private static final int REMINDER_WRITE_CONCURRENCY = 4;
+    private static final DateTimeFormatter DUE_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+
+    public TaskReminderUtils(TaskReactiveRepository taskReactiveRepository,
+                             TaskUserReactiveRepository taskUserReactiveRepository,
+                             UserReactiveRepository userReactiveRepository,
+                             MailService mailService,
+                             @Value("${task.reminder.windows}") String[] reminderWindows) {
+        this.taskReactiveRepository = taskReactiveRepository;
+        this.taskUserReactiveRepository = taskUserReactiveRepository;
+        this.userReactiveRepository = userReactiveRepository;
+        this.mailService = mailService;
+        this.reminderWindows = Arrays.stream(reminderWindows)
+                .map(window -> DurationStyle.detectAndParse(window.trim()))
+                .sorted(Comparator.reverseOrder())
+                .toList();
+    }
+
+
+    /**
+     * Returns the first reminder watermark of a task due at the given date and time, i.e. when its widest window opens.
+     * The watermark may be in the past, then the task is reminded on the next run for the tightest window it is in.
+     *
+     * @param dueDate the due date of the task.
+     * @return the date and time of the first reminder, or null if there is no due date or no window.
+     */
+    public LocalDateTime firstReminderAt(LocalDateTime dueDate) {
+        if (dueDate == null || reminderWindows.isEmpty())
+            return null;
+        return dueDate.minus(reminderWindows.get(0));
+    }
+
+
+    /**
+     * Finds the tasks whose reminder watermark has been reached, by a range on the watermark index.
+     *
+     * @param now the current date and time.
+     * @return a {@link Flux} of the due tasks, with only their ID, name, due date and watermark.
+     */
+    public Flux<Task> findDueReminders(LocalDateTime now) {
+        return taskReactiveRepository.findDueRemindersByReminderWatermarkBefore(now);
+    }
+
+
+    /**
+     * Reminds the assignees of the given due tasks, with one email per assignee, and advances the watermark of each task to
+     * its next (tighter) window. At most {@value #REMINDER_WRITE_CONCURRENCY} watermark updates are in flight at once.
+     *
+     * @param dueTasks the due tasks, see {@link #findDueReminders(LocalDateTime)}.
+     * @param now      the current date and time.
+     * @return a {@link Mono} of the number of the reminded tasks.
+     */
+    public Mono<Long> sendReminders(Flux<Task> dueTasks, LocalDateTime now) {
+        // claim each due task by advancing its watermark
+        return dueTasks
+                .flatMap(task -> claimReminder(task, now), REMINDER_WRITE_CONCURRENCY)
+                .buffer(REMINDER_BATCH_SIZE)
+
+                // send the reminders of each batch, grouped by assignee
+                .concatMap(this::remindAssignees)
+                .reduce(0L, Long::sum);
+    }
+
+
+    /**
+     * Advances the watermark of a due task, only if it hasn't been advanced meanwhile (by another run or a task update).
+     *
+     * @return the task and the window it is reminded for, or an empty {@link Mono} if the task isn't reminded by this run.
+     */
+    private Mono<Map.Entry<Task, Duration>> claimReminder(Task task, LocalDateTime now) {
+        Duration untilDue = Duration.between(now, task.getDueDate());
+
+        // the tightest window the task has entered (the windows are widest first), and the next (tighter) one
+        int windowIndex = -1;
+        for (int i = 0; i < reminderWindows.size(); i++)
+            if (untilDue.compareTo(reminderWindows.get(i)) <= 0)
+                windowIndex = i;
+
+        // a task past its due date (about to be marked as overdue) isn't reminded any more
+        if (untilDue.isNegative() || untilDue.isZero())
+            return taskReactiveRepository.clearReminderWatermark(task.getTaskId(), task.getReminderWatermark()).then(Mono.empty());
+
+        // the due date has been moved out of every window without the watermark following it
+        if (windowIndex < 0)
+            return taskReactiveRepository.advanceReminderWatermark(task.getTaskId(), task.getReminderWatermark(), firstReminderAt(task.getDueDate())).then(Mono.empty());
+
+        Duration window = reminderWindows.get(windowIndex);
+        Duration nextWindow = windowIndex + 1 < reminderWindows.size() ? reminderWindows.get(windowIndex + 1) : null;
+
+        Mono<Long> claim = nextWindow == null
+                ? taskReactiveRepository.clearReminderWatermark(task.getTaskId(), task.getReminderWatermark())
+                : taskReactiveRepository.advanceReminderWatermark(task.getTaskId(), task.getReminderWatermark(), task.getDueDate().minus(nextWindow));
+
+        return claim
+                .filter(modifiedCount -> modifiedCount > 0)
+                .map(modifiedCount -> Map.entry(task, window));
+    }
+
+
+    private Mono<Long> remindAssignees(List<Map.Entry<Task, Duration>> reminders) {
+        Map<String, Map.Entry<Task, Duration>> remindersByTaskId = reminders.stream()
+                .collect(Collectors.toMap(reminder -> reminder.getKey().getTaskId(), reminder -> reminder));
+
+        // the assignees of all the tasks of the batch with one query, grouped by user
+        return taskUserReactiveRepository.findAssigneesByTaskIdIn(remindersByTaskId.keySet())
+                .collectMultimap(TaskUser::getUserId, TaskUser::getTaskId)
+                .flatMapMany(taskIdsByUserId -> userReactiveRepository.findAllById(taskIdsByUserId.keySet())
+                        .doOnNext(user -> sendReminderEmail(user, taskIdsByUserId.get(user.getUserId()).stream()
+                                .map(remindersByTaskId::get)
+                                .sorted(Comparator.comparing(reminder -> reminder.getKey().getDueDate()))
+                                .toList()))
+                )
+                .then(Mono.just((long) reminders.size()));
+    }
+
+
+    private void sendReminderEmail(User user, List<Map.Entry<Task, Duration>> reminders) {
+        String taskList = reminders.stream()
+                .map(reminder -> "- " + reminder.getKey().getTaskName() + ": due " + reminder.getKey().getDueDate().format(DUE_DATE_FORMATTER)
+                                 + " (within " + DurationStyle.SIMPLE.print(reminder.getValue()) + ")")
+                .collect(Collectors.joining("\n"));
+
+        log.info("⏰ sending a reminder of {{}} task(s) to user {{}}", reminders.size(), user.getUserId());
+        mailService.sendEmail(new Email(
+                "Reminder: " + reminders.size() + " of your tasks are due soon",
+                user.getEmail(),
+                "The following tasks assigned to you are approaching their due date:\n" + taskList)
+        );
+    }
+
+}
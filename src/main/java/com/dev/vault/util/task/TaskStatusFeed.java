@@ -0,0 +1,106 @@
+package com.dev.vault.util.task;
+
+import com.dev.vault.model.domain.task.Task;
+import com.dev.vault.model.enums.TaskEventType;
+import com.dev.vault.model.enums.TaskStatus;
+import com.mongodb.MongoException;
+import com.mongodb.client.model.changestream.FullDocument;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.ChangeStreamEvent;
+import org.springframework.data.mongodb.core.ChangeStreamOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Feeds the {@link TaskEventPublisher} from a MongoDB change stream on the status changes of the {@code task} collection, so the
+ * clients of every node see the tasks going overdue and the status changes made on any node.
+ * <p>
+ * A status change is recognized by the {@code statusChangedAt} of the task, which is only ever written with a {@code $set} (the overdue
+ * marking, the completion, and the update of a task whose status has changed); the event is built from the task looked up after the
+ * update. A change stream only delivers committed changes, so an event is only published once the whole update transaction is committed.
+ * <p>
+ * The events aren't replayed: the stream starts from the current time, and an error reopens it after the last event processed in
+ * memory, with an exponential backoff. When that event has already left the oplog, the stream starts over from the current time.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskStatusFeed {
+
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+
+    private final ReactiveMongoTemplate mongoTemplate;
+    private final TaskEventPublisher taskEventPublisher;
+
+    private final AtomicReference<BsonDocument> resumeToken = new AtomicReference<>();
+    private Disposable subscription;
+
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        subscription = Flux.defer(this::watch)
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                        .maxBackoff(Duration.ofMinutes(1))
+                        .doBeforeRetry(signal -> log.warn("The task status feed failed, reopening it: {}", signal.failure().getMessage())))
+                .subscribe();
+    }
+
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null)
+            subscription.dispose();
+    }
+
+
+    private Flux<Task> watch() {
+        // only the updates setting the status change date, with the task as it is after the update
+        ChangeStreamOptions.ChangeStreamOptionsBuilder options = ChangeStreamOptions.builder()
+                .filter(Aggregation.newAggregation(Aggregation.match(Criteria.where("operationType").is("update")
+                        .and("updateDescription.updatedFields.statusChangedAt").exists(true))))
+                .fullDocumentLookup(FullDocument.UPDATE_LOOKUP);
+        BsonDocument token = resumeToken.get();
+        if (token != null)
+            options.resumeAfter(token);
+
+        return mongoTemplate.changeStream(mongoTemplate.getCollectionName(Task.class), options.build(), Task.class)
+                .doOnNext(event -> resumeToken.set(event.getResumeToken().asDocument()))
+                // the body is null when the task has been deleted before it was looked up
+                .mapNotNull(ChangeStreamEvent::getBody)
+                .doOnNext(this::publish)
+                .onErrorResume(this::isHistoryLost, error -> {
+                    log.warn("The resume token of the task status feed is no longer in the oplog, status changes made meanwhile are not streamed");
+                    resumeToken.set(null);
+                    return Flux.error(error);
+                });
+    }
+
+
+    private void publish(Task task) {
+        TaskEventType eventType = task.getTaskStatus() == TaskStatus.OVERDUE ? TaskEventType.OVERDUE : TaskEventType.STATUS_CHANGED;
+        taskEventPublisher.publish(eventType, task);
+    }
+
+
+    private boolean isHistoryLost(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof MongoException mongoException && mongoException.getCode() == CHANGE_STREAM_HISTORY_LOST)
+                return true;
+        }
+        return false;
+    }
+
+}
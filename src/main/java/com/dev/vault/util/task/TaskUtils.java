@@ -3,7 +3,9 @@ package com.dev.vault.util.task;
 import com.dev.vault.helper.exception.*;
 import com.dev.vault.helper.payload.request.task.TaskRequest;
 import com.dev.vault.helper.payload.response.task.TaskResponse;
+import com.dev.vault.helper.payload.response.task.TaskSummaryResponse;
 import com.dev.vault.model.domain.project.Project;
+import com.dev.vault.model.domain.relationship.ProjectMembers;
 import com.dev.vault.model.domain.relationship.ProjectTask;
 import com.dev.vault.model.domain.relationship.TaskUser;
 import com.dev.vault.model.domain.task.Task;
@@ -28,9 +30,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.stream.Collectors;
 
 import static com.dev.vault.model.enums.TaskStatus.IN_PROGRESS;
 
@@ -39,20 +40,22 @@ import static com.dev.vault.model.enums.TaskStatus.IN_PROGRESS;
  * A utility class that provides helper methods for working with tasks.
  * This class contains methods for:
  * <ul>
- *     <li>Assigning a {@link Task} to a list of users and returns a map of user IDs to status messages.</li>
- *     <li>Assigning a {@link Task} to all members of a project and returns a Flux of TaskUser.</li>
+ *     <li>Assigning a {@link Task} to a list of users in bulk and returns a map of usernames to status messages.</li>
+ *     <li>Assigning a {@link Task} to all members of a project in batches and returns a Flux of the inserted TaskUser batches.</li>
  *     <li>Checks if a {@link Task} with the same name already exists in the project.</li>
  *     <li>Build a {@link TaskResponse} object as response for {@link TaskManagementServiceImpl#createNewTask(String, TaskRequest) createNewTask(String projectId, TaskRequest taskRequest)}.</li>
  *     <li>Build a {@link Task} object as response for {@link TaskManagementServiceImpl#searchTaskBasedOnDifferentCriteria(TaskStatus, TaskPriority, String, String)
  *      searchTaskBasedOnDifferentCriteria(TaskStatus taskStatus, TaskPriority taskPriority, String projectId, String assignedTo_UserId)}.</li>
  *      <li>Build a {@link TaskResponse} object for the given task and project, based on the response map from assigning the task to users.
  *      For {@link TaskAssignmentServiceImpl#assignTaskToUsers(String, String, List) assignTaskToUsers(String taskId, String projectId, List&lt;String&gt; userIdList)}.</li>
+ *      <li>Build the {@link TaskSummaryResponse}s of a project task board.</li>
  *      <li>Build a {@link Task} object.</li>
  *      <li>Validate whether the {@link Task} belongs to the {@link Project} and whether the {@link User} is a member and leader/admin of the project.</li>
  *      <li>Check if a task with the same name already exists in the project.</li>
  *      <li>Checks if the currentUser is the leader or admin of the project.</li>
  *      <li>Save the given task entity and related entities ({@link TaskUser} and {@link ProjectTask}).</li>
  *      <li>Build a Task object for updating an existing task.</li>
+ *      <li>Unassign a {@link Task} from a list of users, or from all of its users, in bulk.</li>
  * </ul>
  */
 @Slf4j
@@ -69,112 +72,98 @@ public class TaskUtils {
     private final ReactiveRepositoryUtils reactiveRepositoryUtils;
     private final ProjectUtilsImpl projectUtils;
     private final UserReactiveRepository userReactiveRepository;
+    private final TaskReminderUtils taskReminderUtils;
+
+    private static final int ASSIGNMENT_BATCH_SIZE = 500;
 
 
     /**
-     * Assigns a task to a list of users and returns a map of user IDs to status messages.
+     * Assigns a task to a list of users and returns a map of usernames to status messages.
+     * <p>
+     * The whole list is handled in bulk, whatever its size: the users and their memberships are read with one {@code $in}
+     * query each, and the {@link TaskUser} links are written with one bulk write of upserts. Users that already had the
+     * task are reported from the write result, so concurrent requests can't create duplicate links.
      *
-     * @param userIdList        The list of user IDs to assign the task to.
-     * @param task              The task to assign.
-     * @param project           The project the task belongs to.
-     * @param statusResponseMap The map to store the status messages for each user ID. The status message is one of:
-     *                          <ul>
-     *                              <li>"Success: Task assigned to user [username]" if the task is successfully assigned</li>
-     *                              <li>"Fail: [reason]" if the task cannot be assigned</li>
-     *                          </ul>
-     * @return A {@link Mono} that emits a map of user IDs to status messages.
+     * @param userIdList The list of user IDs to assign the task to.
+     * @param task       The task to assign.
+     * @param project    The project the task belongs to.
+     * @return A {@link Mono} that emits an unmodifiable map of usernames to status messages, in the order of {@code userIdList}.
+     * The status message is one of:
+     * <ul>
+     *     <li>"Success: Task assigned to user [username]" if the task is successfully assigned</li>
+     *     <li>"Fail: [reason]" if the task cannot be assigned</li>
+     * </ul>
      * @throws ResourceNotFoundException If a user is not found from the {@code userIdList}.
      */
-    public Mono<Map<String, String>> assignTaskToUserList(List<String> userIdList, Task task, Project project, Map<String, String> statusResponseMap) {
-        // Convert the list of user IDs into a Flux that emits each ID one by one
-        return Flux.fromIterable(userIdList)
-
-                // For each user ID, retrieve the corresponding User object and check if they are a member of the project
-                .flatMap(userId -> reactiveRepositoryUtils.find_UserById_OrElseThrow_ResourceNotFoundException(userId)
-                        .flatMap(user -> projectUtils.isMemberOfProject(project, user)
-
-                                // If the user is not a member of the project, add a failure status message to the statusResponseMap
-                                .flatMap(isMember -> {
-                                    if (!isMember) {
-                                        statusResponseMap.put(user.getUsername(), "Fail: User with ID {" + userId + "} is not a member of Project with ID {" + project.getProjectId() + "}");
-                                        return Mono.empty();
-                                    } else {
-                                        return taskUserReactiveRepository.existsByTaskAndUser(task, user).flatMap(taskAlreadyAssigned -> {
-                                            if (taskAlreadyAssigned) {
-                                                statusResponseMap.put(user.getUsername(), "Fail: Task already assigned to user {" + user.getUsername() + "}");
-                                                return Mono.empty();
-                                            } else {
-                                                // Create a new TaskUser domain and set its User and Task fields
-                                                TaskUser taskUser = TaskUser.builder()
-                                                        .user(user)
-                                                        .task(task)
-                                                        .build();
-
-                                                // Save the TaskUser domain to the database
-                                                return taskUserReactiveRepository.save(taskUser)
-                                                        .flatMap(savedTaskUser -> {
-
-                                                            // Add the TaskUser domain to the Task and User entities
-                                                            task.getAssignedTaskUser().add(savedTaskUser);
-                                                            user.getTaskUsers().add(savedTaskUser);
-
-                                                            // Save the updated Task and User entities to the database
-                                                            return Mono.zip(
-                                                                    taskReactiveRepository.save(task),
-                                                                    userReactiveRepository.save(user)
-                                                            );
-                                                        }).doOnSuccess(ignored -> statusResponseMap.put(user.getUsername(), "Success: Task assigned to user {" + user.getUsername() + "}"))
-                                                        .onErrorResume(throwable -> {
-                                                            statusResponseMap.put(user.getUsername(), "Fail: Error assigning task to user {" + user.getUsername() + "}: " + throwable.getMessage());
-                                                            return Mono.empty();
-                                                        });
-                                            }
-                                        });
-                                    }
-                                })
-                        )
-                )// Once all the users have been processed, discard the emitted values and return a Mono that emits the updated statusResponseMap
-                .then(Mono.just(statusResponseMap));
+    public Mono<Map<String, String>> assignTaskToUserList(List<String> userIdList, Task task, Project project) {
+        List<String> userIds = List.copyOf(new LinkedHashSet<>(userIdList));
+
+        // read the users and the members among them, one query each
+        return Mono.zip(
+                userReactiveRepository.findAllById(userIds).collectMap(User::getUserId),
+                projectMembersReactiveRepository.findByProjectIdAndUserIdIn(project.getProjectId(), userIds)
+                        .map(ProjectMembers::getUserId)
+                        .collect(Collectors.toSet())
+        ).flatMap(usersAndMembers -> {
+            Map<String, User> users = usersAndMembers.getT1();
+            Set<String> memberIds = usersAndMembers.getT2();
+
+            // fail the whole request if a user doesn't exist
+            Optional<String> unknownUserId = userIds.stream().filter(userId -> !users.containsKey(userId)).findFirst();
+            if (unknownUserId.isPresent())
+                return Mono.error(new ResourceNotFoundException("User", "UserID", unknownUserId.get()));
+
+            Map<String, String> statusResponseMap = new LinkedHashMap<>();
+            List<TaskUser> candidateTaskUsers = new ArrayList<>();
+            for (String userId : userIds) {
+                User user = users.get(userId);
+
+                if (!memberIds.contains(userId)) {
+                    statusResponseMap.put(user.getUsername(), "Fail: User with ID {" + userId + "} is not a member of Project with ID {" + project.getProjectId() + "}");
+                } else {
+                    // a member that isn't inserted below already had the task
+                    statusResponseMap.put(user.getUsername(), "Fail: Task already assigned to user {" + user.getUsername() + "}");
+                    candidateTaskUsers.add(new TaskUser(task, user));
+                }
+            }
+
+            // upsert all the links at once; the unique index turns concurrent duplicates into no-ops
+            return taskUserReactiveRepository.insertAllIfAbsent(candidateTaskUsers)
+                    .doOnNext(insertedTaskUsers -> insertedTaskUsers.forEach(taskUser ->
+                            statusResponseMap.put(taskUser.getUsername(), "Success: Task assigned to user {" + taskUser.getUsername() + "}")))
+                    .onErrorResume(throwable -> {
+                        candidateTaskUsers.forEach(taskUser ->
+                                statusResponseMap.put(taskUser.getUsername(), "Fail: Error assigning task to user {" + taskUser.getUsername() + "}: " + throwable.getMessage()));
+                        return Mono.just(List.of());
+                    })
+                    .then(Mono.fromSupplier(() -> Collections.unmodifiableMap(statusResponseMap)));
+        });
     }
 
 
     /**
-     * Assigns a task to all members of a project and returns a Flux of {@link TaskUser}.
+     * Assigns a task to all members of a project that don't have it yet, and returns the inserted {@link TaskUser}s batch by batch.
+     * <p>
+     * The members to assign are computed on the server with one aggregation (members minus assignees). They are then
+     * read and inserted in batches of {@value #ASSIGNMENT_BATCH_SIZE}: one {@code $in} query for the users and one bulk
+     * write of upserts per batch, so large projects are streamed instead of being held in memory, and a member assigned
+     * concurrently in between is skipped instead of duplicated.
      *
-     * @param task              the task to be assigned.
-     * @param project           the project to assign the task to.
-     * @param statusResponseMap a map used to store the status of each user assignment.
-     * @return a {@link Flux} of {@link TaskUser} representing the assignment of the task to users.
-     * @throws ResourceNotFoundException if {@link User} associated with a {@link Project} is not found.
+     * @param task    the task to be assigned.
+     * @param project the project to assign the task to.
+     * @return a {@link Flux} emitting the {@link TaskUser}s inserted by each batch.
      */
-    public Flux<TaskUser> assignTaskToUsersInProject(Task task, Project project, Map<String, String> statusResponseMap) {
-        // find the members of the project
-        return projectMembersReactiveRepository.findByProjectId(project.getProjectId())
-                .flatMap(projectMembers -> {
-
-                    // find the user associated with the project
-                    return reactiveRepositoryUtils.find_UserById_OrElseThrow_ResourceNotFoundException(projectMembers.getUserId())
-                            .flatMapMany(user -> {
-
-                                // Check if the task is already assigned to the user, skip ahead and add a response to the map if it is
-                                return taskUserReactiveRepository.existsByTaskAndUser(task, user).flatMapMany(taskExists -> {
-                                    if (taskExists) {
-                                        statusResponseMap.put(user.getUsername(), "Fail: Task already assigned to user {" + user.getUsername() + "}");
-                                        return taskUserReactiveRepository.findAllByTask_TaskId(task.getTaskId());
-                                    } else {
-
-                                        // if no task was assigned to user, Assign the task and user to taskUser :: since this class has the responsibility of managing the relationships
-                                        TaskUser buildTaskUser = TaskUser.builder()
-                                                .task(task)
-                                                .user(user)
-                                                .build();
-
-                                        statusResponseMap.put(user.getUsername(), "Success");
-                                        return taskUserReactiveRepository.save(buildTaskUser);
-                                    }
-                                });
-                            });
-                });
+    public Flux<List<TaskUser>> assignTaskToUsersInProject(Task task, Project project) {
+        // find the members the task is not assigned to yet
+        return projectMembersReactiveRepository.findUnassignedMemberIds(project.getProjectId(), task.getTaskId())
+                .buffer(ASSIGNMENT_BATCH_SIZE)
+
+                // insert the links of each batch at once; one batch at a time to keep the write load flat
+                .concatMap(userIds -> userReactiveRepository.findAllById(userIds)
+                        .map(user -> new TaskUser(task, user))
+                        .collectList()
+                        .flatMap(taskUserReactiveRepository::insertAllIfAbsent)
+                );
     }
 
 
@@ -201,8 +190,8 @@ public class TaskUtils {
                 .collectList().map(taskUsers -> {
                     Map<String, String> assignedUsersMap = new HashMap<>();
                     for (TaskUser taskUser : taskUsers) {
-                        String username = taskUser.getUser().getUsername();
-                        String userId = taskUser.getUser().getUserId();
+                        String username = taskUser.getUsername();
+                        String userId = taskUser.getUserId();
 
                         assignedUsersMap.put(userId, username);
                     }
@@ -232,8 +221,8 @@ public class TaskUtils {
                     Map<String, String> assignedUsersMap = new HashMap<>();
 
                     for (TaskUser taskUser : taskUsers) {
-                        String username = taskUser.getUser().getUsername();
-                        String userId = taskUser.getUser().getUserId();
+                        String username = taskUser.getUsername();
+                        String userId = taskUser.getUserId();
 
                         assignedUsersMap.put(userId, username);
                     }
@@ -256,6 +245,36 @@ public class TaskUtils {
     }
 
 
+    /**
+     * Builds the {@link TaskSummaryResponse}s of a project task board from the projected tasks.
+     * The assignee IDs of all the tasks are loaded with one covered {@code $in} query on {@link TaskUser}, no user or project is hydrated.
+     *
+     * @param tasks the projected tasks of the board, in board order.
+     * @return a {@link Flux} of {@link TaskSummaryResponse}, in the order of the given tasks.
+     */
+    public Flux<TaskSummaryResponse> buildTaskSummaryResponses_ForTaskBoard(List<Task> tasks) {
+        if (tasks.isEmpty())
+            return Flux.empty();
+
+        List<String> taskIds = tasks.stream().map(Task::getTaskId).toList();
+
+        // group the assignee IDs by task ID
+        return taskUserReactiveRepository.findAssigneesByTaskIdIn(taskIds)
+                .collectMultimap(TaskUser::getTaskId, TaskUser::getUserId)
+                .flatMapMany(assigneeIdsByTaskId -> Flux.fromIterable(tasks)
+                        .map(task -> TaskSummaryResponse.builder()
+                                .taskId(task.getTaskId())
+                                .taskName(task.getTaskName())
+                                .taskStatus(task.getTaskStatus())
+                                .taskPriority(task.getTaskPriority())
+                                .dueDate(task.getDueDate())
+                                .assigneeIds(List.copyOf(assigneeIdsByTaskId.getOrDefault(task.getTaskId(), List.of())))
+                                .build()
+                        )
+                );
+    }
+
+
     /**
      * Builds a {@link TaskResponse} object for the given task and project, based on the response map from assigning the task to users.
      * For {@link TaskAssignmentServiceImpl#assignTaskToUsers(String, String, List) assignTaskToUsers(String taskId, String projectId, List&lt;String&gt; userIdList)}.
@@ -297,11 +316,9 @@ public class TaskUtils {
         task.setProjectId(project.getProjectId());
         task.setCreatedAt(LocalDateTime.now());
         task.setTaskStatus(IN_PROGRESS);
+        task.setReminderWatermark(taskReminderUtils.firstReminderAt(task.getDueDate()));
 
-        TaskUser taskUser = new TaskUser();
-        taskUser.setUser(user);
-        taskUser.setTask(task);
-        task.getAssignedTaskUser().add(taskUser);
+        task.getAssignedTaskUser().add(new TaskUser(task, user));
 
         return task;
     }
@@ -320,8 +337,8 @@ public class TaskUtils {
     @SuppressWarnings("ConstantValue")
     public Mono<Void> validateTaskAndProject(Task task, Project project, User user) {
         // Check if the task belongs to the project or throw a DevVaultException if it doesn't
-        return projectTaskReactiveRepository.findByTask_TaskId(task.getTaskId()).flatMap(projectTask ->
-                projectReactiveRepository.findByProjectName(projectTask.getProject().getProjectName()).flatMap(foundProject -> {
+        return projectTaskReactiveRepository.findByTaskId(task.getTaskId()).flatMap(projectTask ->
+                projectReactiveRepository.findById(projectTask.getProjectId()).flatMap(foundProject -> {
                     if (!task.getProjectId().equals(foundProject.getProjectId()))
                         return Mono.error(new DevVaultException("Task with ID {" + task.getTaskId() + "} does not belong to project with ID {" + project.getProjectId() + "}"));
 
@@ -408,19 +425,11 @@ public class TaskUtils {
     public Mono<Task> saveTaskAndEntities(Project project, User currentUser, TaskRequest taskRequest) {
         Task task = buildTaskObject(project, currentUser, taskRequest);
 
-        TaskUser taskUser = TaskUser.builder()
-                .task(task)
-                .user(currentUser)
-                .build();
-        ProjectTask projectTask = ProjectTask.builder()
-                .project(project)
-                .task(task)
-                .build();
-
+        // the relationships only hold the IDs, so they are built once the task has got its ID
         return taskReactiveRepository.save(task).flatMap(savedTask ->
-                taskUserReactiveRepository.save(taskUser)
+                taskUserReactiveRepository.save(new TaskUser(savedTask, currentUser))
                         .then(
-                                Mono.defer(() -> projectTaskReactiveRepository.save(projectTask))
+                                Mono.defer(() -> projectTaskReactiveRepository.save(new ProjectTask(project, savedTask)))
                         ).thenReturn(savedTask)
         );
     }
@@ -434,6 +443,7 @@ public class TaskUtils {
      * @return a Mono<Task> object representing the updated task
      */
     public Mono<Task> buildTaskObject_ForUpdateTask(Task task, TaskRequest taskRequest) {
+        TaskStatus previousStatus = task.getTaskStatus();
         if (taskRequest.getTaskStatus() != null)
             task.setTaskStatus(taskRequest.getTaskStatus());
 
@@ -446,8 +456,16 @@ public class TaskUtils {
         if (taskRequest.getDescription() != null && !taskRequest.getDescription().isEmpty())
             task.setDescription(taskRequest.getDescription());
 
-        if (taskRequest.getDueDate() != null)
+        // a new due date restarts the reminders; a task that isn't in progress any more isn't reminded
+        if (taskRequest.getDueDate() != null && !taskRequest.getDueDate().equals(task.getDueDate())) {
             task.setDueDate(taskRequest.getDueDate());
+            task.setReminderWatermark(taskReminderUtils.firstReminderAt(task.getDueDate()));
+        }
+        // a task moved back into progress (e.g. reopened after OVERDUE) lost its watermark on the way out: restart the reminders
+        if (task.getTaskStatus() == IN_PROGRESS && previousStatus != IN_PROGRESS && task.getReminderWatermark() == null)
+            task.setReminderWatermark(taskReminderUtils.firstReminderAt(task.getDueDate()));
+        if (task.getTaskStatus() != IN_PROGRESS)
+            task.setReminderWatermark(null);
 
         return Mono.just(task);
     }
@@ -455,114 +473,86 @@ public class TaskUtils {
 
     public Mono<Task> saveTask(Task task, Map<String, String> assignedUserMap) {
         task.getAssignedTaskUser().forEach(taskUser -> {
-            String userId = taskUser.getUser().getUserId();
-            String username = taskUser.getUser().getUsername();
-            assignedUserMap.put(userId, username);
+            assignedUserMap.put(taskUser.getUserId(), taskUser.getUsername());
         });
         return taskReactiveRepository.save(task);
     }
 
 
     /**
-     * This method deletes the associations of a given Task object. It uses the {@link ReactiveRepositoryUtils} to find the {@link TaskUser} and {@link ProjectTask}
-     * associated with the task, and then deletes them using the delete method of their repositories respectively.
+     * This method deletes the associations of a given Task object. The {@link TaskUser}s are deleted with one {@code deleteMany}
+     * keyed by the taskId, and the {@link ProjectTask} is found with the {@link ReactiveRepositoryUtils} and deleted.
      *
      * @param task the Task object whose associations need to be deleted
      * @return a Mono of void
-     * @throws ResourceNotFoundException if the task users or project task associated with the task cannot be found
+     * @throws ResourceNotFoundException if the project task associated with the task cannot be found
      */
     public Mono<Void> deleteTaskAssociations(Task task) {
-        return reactiveRepositoryUtils.findAll_TaskUsersByTaskId_OrElseThrow_ResourceNotFoundException(task.getTaskId()).flatMap(taskUserReactiveRepository::delete)
+        return taskUserReactiveRepository.deleteByTaskId(task.getTaskId())
                 .then(reactiveRepositoryUtils.find_ProjectTaskByTaskId_OrElseThrow_ResourceNotFoundException(task.getTaskId()).flatMap(projectTaskReactiveRepository::delete));
     }
 
 
     /**
-     * Updates the associations of a given task, including the assigned users in TaskUser and the project in ProjectTask.
+     * Updates the associations of a given task. {@link TaskUser} and {@link ProjectTask} only hold the IDs and the denormalised
+     * {@code taskName}, so they only have to be rewritten when the name of the task changes.
      *
      * @param task        The task to be updated.
-     * @param taskRequest The TaskRequest object containing the updated task details and associated user IDs and project ID.
+     * @param taskRequest The TaskRequest object containing the updated task details.
      * @return A Mono representing the completion of the update operation.
      */
     public Mono<Void> updateTaskAssociations(Task task, TaskRequest taskRequest) {
-        // Update the assigned users in TaskUser
-        return update_TaskUser_Association(task, taskRequest)
+        if (taskRequest.getTaskName() == null || taskRequest.getTaskName().isEmpty())
+            return Mono.empty();
 
-                // Update the project in ProjectTask
-                .then(update_ProjectTask_Association(task, taskRequest));
+        // Update the denormalised taskName in TaskUser and ProjectTask
+        return taskUserReactiveRepository.updateTaskNameByTaskId(task.getTaskId(), task.getTaskName())
+                .then(projectTaskReactiveRepository.updateTaskNameByTaskId(task.getTaskId(), task.getTaskName()))
+                .then();
     }
 
+
     /**
-     * Updates the associations of a given task in TaskUser.
+     * Unassigns a task from a list of users, and returns the outcome of every user from the deleted {@link TaskUser}s.
+     * <p>
+     * The links are removed with two round trips whatever the number of users: Spring Data runs the derived delete as a find by
+     * (taskId, userId {@code $in}), then a delete by {@code _id $in} of the found links. A single {@code deleteMany} would only
+     * return the number of deleted links, not which users were actually assigned.
      *
-     * @param task        The task for which the associations need to be updated.
-     * @param taskRequest The TaskRequest object containing the updated task details and associated user IDs.
-     * @return A Mono representing the completion of the update operation.
-     * @throws ResourceNotFoundException if the {@link TaskUser} cannot be found.
+     * @param taskId     the ID of the task to unassign.
+     * @param userIdList the IDs of the users to unassign the task from.
+     * @return a {@link Mono} of an unmodifiable map of user IDs to status messages, in the order of {@code userIdList}.
      */
-    private Mono<Void> update_TaskUser_Association(Task task, TaskRequest taskRequest) {
-        // Find the TaskUser associated with the task by taskId
-        return reactiveRepositoryUtils.find_TaskUserByTaskId_OrElseThrow_ResourceNotFoundException(task.getTaskId())
-
-                // Perform the update operation within the context of the found TaskUser
-                .flatMap(taskUser ->
-                        // Build the updated Task object based on the TaskRequest
-                        buildTaskObject_ForUpdateTask(taskUser.getTask(), taskRequest)
-
-                                // Save the TaskUser after updating its associations
-                                .then(taskUserReactiveRepository.save(taskUser))
-
-                                // Since we only want to complete the Mono and return Void,
-                                // we use 'thenReturn' to convert the TaskUser to an empty Mono.
-                                .thenReturn(Mono.empty())
-                )
-
-                // We use 'then' to ensure that the update operation completes when the
-                // previous 'flatMap' completes successfully.
-                .then();
+    public Mono<Map<String, String>> unassignTaskFromUsersList(String taskId, List<String> userIdList) {
+        List<String> userIds = List.copyOf(new LinkedHashSet<>(userIdList));
+
+        // find and delete the links of all the users at once
+        return taskUserReactiveRepository.deleteByTaskIdAndUserIdIn(taskId, userIds)
+                .map(TaskUser::getUserId)
+                .collect(Collectors.toSet())
+                .map(unassignedUserIds -> {
+                    Map<String, String> statusResponseMap = new LinkedHashMap<>();
+                    for (String userId : userIds) {
+                        statusResponseMap.put(userId, unassignedUserIds.contains(userId)
+                                ? "Success: Task unassigned from user {" + userId + "}"
+                                : "Fail: Task with ID {" + taskId + "} is not assigned to user {" + userId + "}");
+                    }
+                    return Collections.unmodifiableMap(statusResponseMap);
+                });
     }
 
+
     /**
-     * Updates the associations of a given task in ProjectTask.
+     * Unassigns a task from all of its users with one {@code deleteMany} keyed by the taskId.
      *
-     * @param task        The task for which the associations need to be updated.
-     * @param taskRequest The TaskRequest object containing the updated task details and associated project ID.
-     * @return A Mono representing the completion of the update operation.
-     * @throws ResourceNotFoundException if the {@link ProjectTask} cannot be found.
+     * @param taskId the ID of the task to unassign.
+     * @return a {@link Mono} of the number of unassigned users.
+     * @throws ResourceNotFoundException if the task is not assigned to any user.
      */
-    private Mono<Void> update_ProjectTask_Association(Task task, TaskRequest taskRequest) {
-        // Find the ProjectTask associated with the task by taskId
-        return reactiveRepositoryUtils.find_ProjectTaskByTaskId_OrElseThrow_ResourceNotFoundException(task.getTaskId())
-
-                // Perform the update operation within the context of the found ProjectTask
-                .flatMap(projectTask ->
-                        // Build the updated Task object based on the TaskRequest
-                        buildTaskObject_ForUpdateTask(projectTask.getTask(), taskRequest)
-
-                                // Save the ProjectTask after updating its associations
-                                .then(projectTaskReactiveRepository.save(projectTask))
-
-                                // Since we only want to complete the Mono and return Void,
-                                // we use 'thenReturn' to convert the ProjectTask to an empty Mono.
-                                .thenReturn(Mono.empty())
-                )
-
-                // We use 'then' to ensure that the update operation completes when the
-                // previous 'flatMap' completes successfully.
-                .then();
-    }
-
-
-    public Flux<Void> unassignTaskFromUsersList(String taskId, List<String> userIdList) {
-        // 1. find the users through `userIdList`
-        // 2. find the `taskUser` for each of them
-        // 3. delete those `taskUsers`
-        return Flux.fromIterable(userIdList)
-                .flatMap(userId -> reactiveRepositoryUtils.find_UserById_OrElseThrow_ResourceNotFoundException(userId)
-                        .flatMap(foundUser -> reactiveRepositoryUtils.find_TaskUserByTaskAndUserId_OrElseThrow_ResourceNotFoundException(taskId, foundUser.getUserId())
-                                .flatMap(taskUserReactiveRepository::delete)
-                        )
-                );
+    public Mono<Long> unassignTaskFromAllUsers(String taskId) {
+        return taskUserReactiveRepository.deleteByTaskId(taskId)
+                .filter(deletedCount -> deletedCount > 0)
+                .switchIfEmpty(Mono.error(new ResourceNotFoundException("TaskUser", "taskId", taskId)));
     }
 
 }
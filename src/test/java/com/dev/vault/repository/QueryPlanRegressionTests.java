@@ -0,0 +1,470 @@
+package com.dev.vault.repository;
+
+import com.dev.vault.config.MongoIndexConfiguration;
+import com.dev.vault.model.domain.project.JoinCoupon;
+import com.dev.vault.model.domain.project.JoinProjectRequest;
+import com.dev.vault.model.domain.project.Project;
+import com.dev.vault.model.domain.relationship.*;
+import com.dev.vault.model.domain.task.Task;
+import com.dev.vault.model.domain.user.Roles;
+import com.dev.vault.model.domain.user.User;
+import com.dev.vault.model.domain.user.VerificationToken;
+import com.dev.vault.model.domain.user.jwt.JwtToken;
+import com.dev.vault.model.enums.JoinStatus;
+import com.dev.vault.model.enums.Role;
+import com.dev.vault.model.enums.TaskPriority;
+import com.dev.vault.model.enums.TaskStatus;
+import com.dev.vault.repository.mappings.*;
+import com.dev.vault.repository.project.JoinCouponReactiveRepository;
+import com.dev.vault.repository.project.JoinProjectRequestReactiveRepository;
+import com.dev.vault.repository.project.ProjectReactiveRepository;
+import com.dev.vault.repository.task.TaskReactiveRepository;
+import com.dev.vault.repository.task.TaskSearchRepositoryImpl;
+import com.dev.vault.repository.user.RolesReactiveRepository;
+import com.dev.vault.repository.user.UserReactiveRepository;
+import com.dev.vault.repository.user.VerificationTokenReactiveRepository;
+import com.dev.vault.repository.user.jwt.JwtTokenReactiveRepository;
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.reactivestreams.client.MongoClient;
+import com.mongodb.reactivestreams.client.MongoClients;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.*;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.support.ReactiveMongoRepositoryFactory;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query-plan regression suite for the derived queries in {@code repository/**}.
+ * <p>
+ * Every repository method is invoked against a real {@code mongod} while a {@link CommandListener} records the command
+ * Spring Data sends (the read command, or the {@code update}/{@code delete} command of a modifying method). That exact command
+ * is then run through {@code explain} and the test fails when the winning plan contains a {@code COLLSCAN}, or when more
+ * keys/documents were examined than the seeded data can match.
+ * <p>
+ * The suite connects to {@code mongodb://localhost:27017} (override with the {@code QUERY_PLAN_MONGO_URI} environment
+ * variable or system property) and works in its own {@value #DATABASE} database. The plans are skipped when no {@code mongod}
+ * is reachable; the check that every repository method has a case always runs.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTests {
+
+    private static final String DATABASE = "dev_vault_query_plan";
+    private static final int SEED_SIZE = 200;
+    private static final int GROUPS = 20;
+    private static final int PROJECT_PAGE_SIZE = 10;
+
+    /**
+     * Methods that are deliberately not explained, with the reason. Keep this list short.
+     */
+    private static final Map<String, String> EXCLUDED_METHODS = Map.of(
+            "JwtTokenReactiveRepository.findAllByUser_UserIdAndExpiredIsFalseAndRevokedIsFalse", "JwtToken#user is @Transient, there is no stored field to index",
+            "JwtTokenReactiveRepository.findAllByUser_UserId", "JwtToken#user is @Transient and the method is blocking (returns a List)"
+    );
+
+    /**
+     * Methods whose plans are known to scan a whole index or collection. They are still explained and logged, but not asserted.
+     */
+    private static final Map<String, String> KNOWN_SCANS = Map.of();
+
+    /**
+     * Projected methods that must be answered from the index alone, without fetching a single document.
+     */
+    private static final Set<String> COVERED_QUERIES = Set.of(
+            "TaskReactiveRepository.findDueDatesByTaskStatusAndDueDateBefore",
+            "TaskReactiveRepository.findTaskSummariesByProjectId",
+            "ProjectMembersReactiveRepository.findProjectIdsByUserId",
+            "ProjectMembersReactiveRepository.findMembershipsByProjectIdIn",
+            "TaskUserReactiveRepository.findAssigneesByTaskIdIn"
+    );
+
+    private final List<BsonDocument> capturedCommands = new CopyOnWriteArrayList<>();
+
+    private MongoClient mongoClient;
+    private ReactiveMongoTemplate mongoTemplate;
+    private ReactiveMongoRepositoryFactory repositoryFactory;
+    private String seededRoleId;
+    private String seededUserId;
+    private String seededTaskId;
+    private boolean mongoReachable;
+
+
+    private record QueryPlanCase(String method, Function<QueryPlanRegressionTests, Publisher<?>> invocation, long maxExamined) {
+    }
+
+
+    @BeforeAll
+    void setUp() {
+        String uri = Optional.ofNullable(System.getProperty("QUERY_PLAN_MONGO_URI"))
+                .or(() -> Optional.ofNullable(System.getenv("QUERY_PLAN_MONGO_URI")))
+                .orElse("mongodb://localhost:27017");
+
+        CommandListener commandListener = new CommandListener() {
+            @Override
+            public void commandStarted(CommandStartedEvent event) {
+                capturedCommands.add(event.getCommand().clone());
+            }
+        };
+
+        mongoClient = MongoClients.create(MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(uri))
+                .applyToClusterSettings(builder -> builder.serverSelectionTimeout(2, TimeUnit.SECONDS))
+                .addCommandListener(commandListener)
+                .build());
+
+        mongoReachable = Boolean.TRUE.equals(Mono.from(mongoClient.getDatabase("admin").runCommand(new Document("ping", 1)))
+                .map(ignored -> true)
+                .onErrorReturn(false)
+                .block(Duration.ofSeconds(5)));
+        if (!mongoReachable)
+            return;
+
+        mongoTemplate = new ReactiveMongoTemplate(mongoClient, DATABASE);
+        repositoryFactory = new ReactiveMongoRepositoryFactory(mongoTemplate);
+
+        mongoTemplate.getMongoDatabase().flatMap(database -> Mono.from(database.drop())).block();
+        MongoIndexConfiguration.ensureIndexes(mongoTemplate).blockLast();
+        seed();
+    }
+
+
+    @AfterAll
+    void tearDown() {
+        if (mongoReachable)
+            mongoTemplate.getMongoDatabase().flatMap(database -> Mono.from(database.drop())).block();
+        if (mongoClient != null)
+            mongoClient.close();
+    }
+
+
+    @TestFactory
+    Stream<DynamicTest> everyDerivedQueryUsesAnIndex(TestReporter testReporter) {
+        Assumptions.assumeTrue(mongoReachable, "no mongod reachable, skipping the query-plan regression suite");
+
+        return cases().stream().map(queryPlanCase -> DynamicTest.dynamicTest(queryPlanCase.method(), () -> {
+            Document explain = explain(queryPlanCase);
+            List<String> stages = winningPlanStages(explain);
+            long examined = maxExamined(explain);
+
+            if (KNOWN_SCANS.containsKey(queryPlanCase.method())) {
+                testReporter.publishEntry("known scan: " + queryPlanCase.method(),
+                        KNOWN_SCANS.get(queryPlanCase.method()) + ", stages=" + stages + ", examined=" + examined);
+                return;
+            }
+
+            assertFalse(stages.isEmpty(), "no winning plan found in explain output of " + queryPlanCase.method());
+            assertFalse(stages.contains("COLLSCAN"), queryPlanCase.method() + " degraded to COLLSCAN: " + stages);
+            assertTrue(examined <= queryPlanCase.maxExamined(),
+                    queryPlanCase.method() + " examined " + examined + " keys/documents, expected at most " + queryPlanCase.maxExamined() + ": " + stages);
+            if (COVERED_QUERIES.contains(queryPlanCase.method()))
+                assertFalse(stages.contains("FETCH"), queryPlanCase.method() + " is not covered by its index: " + stages);
+        }));
+    }
+
+
+    @Test
+    void everyRepositoryMethodHasAQueryPlanCase() {
+        Set<String> covered = cases().stream().map(QueryPlanCase::method).collect(Collectors.toSet());
+
+        List<String> missing = repositoryInterfaces().stream()
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .map(method -> repository.getSimpleName() + "." + method.getName()))
+                .filter(method -> !covered.contains(method) && !EXCLUDED_METHODS.containsKey(method))
+                .sorted()
+                .toList();
+
+        assertTrue(missing.isEmpty(), "repository methods without a query-plan case: " + missing);
+    }
+
+
+    /* cases */
+
+    private List<QueryPlanCase> cases() {
+        return List.of(
+                /* user */
+                new QueryPlanCase("UserReactiveRepository.findByEmail",
+                        test -> test.repository(UserReactiveRepository.class).findByEmail("user-3@devvault.io"), 1),
+                new QueryPlanCase("UserReactiveRepository.findMemberProfilesByUserIdIn",
+                        test -> test.repository(UserReactiveRepository.class).findMemberProfilesByUserIdIn(List.of(test.seededUserId)), 1),
+                new QueryPlanCase("RolesReactiveRepository.findAllByRoleId",
+                        test -> test.repository(RolesReactiveRepository.class).findAllByRoleId(test.seededRoleId), 1),
+                new QueryPlanCase("RolesReactiveRepository.findByRole",
+                        test -> test.repository(RolesReactiveRepository.class).findByRole(Role.TEAM_MEMBER), 1),
+                new QueryPlanCase("VerificationTokenReactiveRepository.findByToken",
+                        test -> test.repository(VerificationTokenReactiveRepository.class).findByToken("verification-3"), 1),
+                new QueryPlanCase("JwtTokenReactiveRepository.findByToken",
+                        test -> test.repository(JwtTokenReactiveRepository.class).findByToken("jwt-3"), 1),
+
+                /* project */
+                new QueryPlanCase("ProjectReactiveRepository.findByProjectName",
+                        test -> test.repository(ProjectReactiveRepository.class).findByProjectName("project-name-3"), 1),
+                new QueryPlanCase("ProjectReactiveRepository.findAllProjectNames",
+                        test -> test.repository(ProjectReactiveRepository.class).findAllProjectNames(), SEED_SIZE),
+                new QueryPlanCase("ProjectReactiveRepository.findProjectPage",
+                        test -> test.repository(ProjectReactiveRepository.class).findProjectPage(projectPage()), PROJECT_PAGE_SIZE),
+                new QueryPlanCase("ProjectReactiveRepository.findProjectPageAfter",
+                        test -> test.repository(ProjectReactiveRepository.class).findProjectPageAfter(LocalDateTime.now().minusMinutes(GROUPS), "project-" + GROUPS, projectPage()), 2 * PROJECT_PAGE_SIZE + 1),
+                new QueryPlanCase("ProjectReactiveRepository.findMembersVersionByProjectId",
+                        test -> test.repository(ProjectReactiveRepository.class).findMembersVersionByProjectId("project-3"), 1),
+                new QueryPlanCase("ProjectReactiveRepository.incrementMemberCountByProjectId",
+                        test -> test.repository(ProjectReactiveRepository.class).incrementMemberCountByProjectId("project-3"), 1),
+                new QueryPlanCase("JoinProjectRequestReactiveRepository.findByProjectIdAndStatus",
+                        test -> test.repository(JoinProjectRequestReactiveRepository.class).findByProjectIdAndStatus("project-3", JoinStatus.PENDING), SEED_SIZE / GROUPS),
+                new QueryPlanCase("JoinCouponReactiveRepository.findByRequestingUserIdAndProjectId",
+                        test -> test.repository(JoinCouponReactiveRepository.class).findByRequestingUserIdAndProjectId("user-3", "project-3"), 1),
+                new QueryPlanCase("JoinCouponReactiveRepository.findByCoupon",
+                        test -> test.repository(JoinCouponReactiveRepository.class).findByCoupon("coupon-3"), 1),
+
+                /* task */
+                new QueryPlanCase("TaskReactiveRepository.findByProjectId",
+                        test -> test.repository(TaskReactiveRepository.class).findByProjectId("project-3"), SEED_SIZE / GROUPS),
+                new QueryPlanCase("TaskReactiveRepository.findByTaskPriority",
+                        test -> test.repository(TaskReactiveRepository.class).findByTaskPriority(TaskPriority.HIGH), SEED_SIZE / TaskPriority.values().length),
+                new QueryPlanCase("TaskReactiveRepository.findByTaskStatus",
+                        test -> test.repository(TaskReactiveRepository.class).findByTaskStatus(TaskStatus.OVERDUE), SEED_SIZE / TaskStatus.values().length),
+                new QueryPlanCase("TaskReactiveRepository.existsByTaskNameAndProjectId",
+                        test -> test.repository(TaskReactiveRepository.class).existsByTaskNameAndProjectId("task-name-3", "project-3"), 1),
+                new QueryPlanCase("TaskReactiveRepository.searchByText",
+                        test -> test.repository(TaskReactiveRepository.class).searchByText("topic3", null, null, "project-3", PageRequest.of(0, 20)), SEED_SIZE / GROUPS),
+                new QueryPlanCase("TaskReactiveRepository.findDueDatesByTaskStatusAndDueDateBefore",
+                        test -> test.repository(TaskReactiveRepository.class).findDueDatesByTaskStatusAndDueDateBefore(TaskStatus.IN_PROGRESS, LocalDateTime.now().plusDays(GROUPS)), SEED_SIZE / GROUPS + 1),
+                new QueryPlanCase("TaskReactiveRepository.markOverdueByTaskIdIn",
+                        test -> test.repository(TaskReactiveRepository.class).markOverdueByTaskIdIn(List.of(test.seededTaskId), LocalDateTime.now()), 1),
+                new QueryPlanCase("TaskReactiveRepository.completeByTaskId",
+                        test -> test.repository(TaskReactiveRepository.class).completeByTaskId(test.seededTaskId, false, LocalDateTime.now()), 1),
+                new QueryPlanCase("TaskReactiveRepository.updateStatusChangedAtByTaskId",
+                        test -> test.repository(TaskReactiveRepository.class).updateStatusChangedAtByTaskId(test.seededTaskId, LocalDateTime.now()), 1),
+                new QueryPlanCase("TaskReactiveRepository.findSummariesByTaskIdInAndOverdueMarkedAt",
+                        test -> test.repository(TaskReactiveRepository.class).findSummariesByTaskIdInAndOverdueMarkedAt(List.of(test.seededTaskId), LocalDateTime.now()), 1),
+                new QueryPlanCase("TaskReactiveRepository.findDueRemindersByReminderWatermarkBefore",
+                        test -> test.repository(TaskReactiveRepository.class).findDueRemindersByReminderWatermarkBefore(LocalDateTime.now()), 1),
+                new QueryPlanCase("TaskReactiveRepository.advanceReminderWatermark",
+                        test -> test.repository(TaskReactiveRepository.class).advanceReminderWatermark(test.seededTaskId, LocalDateTime.now(), LocalDateTime.now()), 1),
+                new QueryPlanCase("TaskReactiveRepository.clearReminderWatermark",
+                        test -> test.repository(TaskReactiveRepository.class).clearReminderWatermark(test.seededTaskId, LocalDateTime.now()), 1),
+                new QueryPlanCase("TaskReactiveRepository.findTaskSummariesByProjectId",
+                        test -> test.repository(TaskReactiveRepository.class).findTaskSummariesByProjectId("project-3"), SEED_SIZE / GROUPS),
+
+                /* relationships */
+                new QueryPlanCase("ProjectMembersReactiveRepository.findProjectIdsByUserId",
+                        test -> test.repository(ProjectMembersReactiveRepository.class).findProjectIdsByUserId("user-3"), 1),
+                new QueryPlanCase("ProjectMembersReactiveRepository.findMembershipsByProjectIdIn",
+                        test -> test.repository(ProjectMembersReactiveRepository.class).findMembershipsByProjectIdIn(List.of("project-3", "project-4")), 2 * SEED_SIZE / GROUPS + 1),
+                new QueryPlanCase("ProjectMembersReactiveRepository.findByProjectId",
+                        test -> test.repository(ProjectMembersReactiveRepository.class).findByProjectId("project-3"), SEED_SIZE / GROUPS),
+                new QueryPlanCase("ProjectMembersReactiveRepository.findByProjectIdAndUserId",
+                        test -> test.repository(ProjectMembersReactiveRepository.class).findByProjectIdAndUserId("project-3", "user-3"), 1),
+                new QueryPlanCase("ProjectMembersReactiveRepository.findByProjectIdAndUserIdIn",
+                        test -> test.repository(ProjectMembersReactiveRepository.class).findByProjectIdAndUserIdIn("project-3", List.of("user-3", "user-23", "user-4")), 3),
+                new QueryPlanCase("ProjectMembersReactiveRepository.findUnassignedMemberIds",
+                        test -> test.repository(ProjectMembersReactiveRepository.class).findUnassignedMemberIds("project-3", "task-3"), SEED_SIZE / GROUPS),
+                new QueryPlanCase("UserProjectRoleReactiveRepository.findByUserIdAndRoleIdAndProjectId",
+                        test -> test.repository(UserProjectRoleReactiveRepository.class).findByUserIdAndRoleIdAndProjectId("user-3", "role-3", "project-3"), 1),
+                new QueryPlanCase("UserRoleReactiveRepository.findAllByUser_UserId",
+                        test -> test.repository(UserRoleReactiveRepository.class).findAllByUser_UserId("user-3"), 1),
+                new QueryPlanCase("UserRoleReactiveRepository.findByUser_UserIdAndRoles_RoleId",
+                        test -> test.repository(UserRoleReactiveRepository.class).findByUser_UserIdAndRoles_RoleId("user-3", "role-3"), 1),
+                new QueryPlanCase("TaskUserReactiveRepository.existsByTaskIdAndUserId",
+                        test -> test.repository(TaskUserReactiveRepository.class).existsByTaskIdAndUserId("task-3", "user-3"), 1),
+                new QueryPlanCase("TaskUserReactiveRepository.findByUserId",
+                        test -> test.repository(TaskUserReactiveRepository.class).findByUserId("user-3"), 1),
+                new QueryPlanCase("TaskUserReactiveRepository.findAllByTaskId",
+                        test -> test.repository(TaskUserReactiveRepository.class).findAllByTaskId("task-3"), SEED_SIZE / GROUPS),
+                new QueryPlanCase("TaskUserReactiveRepository.findByTaskIdAndUserId",
+                        test -> test.repository(TaskUserReactiveRepository.class).findByTaskIdAndUserId("task-3", "user-3"), 1),
+                new QueryPlanCase("TaskUserReactiveRepository.insertAllIfAbsent",
+                        test -> test.repository(TaskUserReactiveRepository.class).insertAllIfAbsent(List.of(new TaskUser(linkedTask(3), linkedUser(3)))), 1),
+                new QueryPlanCase("TaskUserReactiveRepository.deleteByTaskIdAndUserIdIn",
+                        test -> test.repository(TaskUserReactiveRepository.class).deleteByTaskIdAndUserIdIn("task-5", List.of("user-5", "user-25")), 2),
+                new QueryPlanCase("TaskUserReactiveRepository.deleteByTaskId",
+                        test -> test.repository(TaskUserReactiveRepository.class).deleteByTaskId("task-6"), SEED_SIZE / GROUPS),
+                new QueryPlanCase("TaskUserReactiveRepository.updateTaskNameByTaskId",
+                        test -> test.repository(TaskUserReactiveRepository.class).updateTaskNameByTaskId("task-3", "task-name-3"), SEED_SIZE / GROUPS),
+                new QueryPlanCase("TaskUserReactiveRepository.findAssigneesByTaskIdIn",
+                        test -> test.repository(TaskUserReactiveRepository.class).findAssigneesByTaskIdIn(List.of("task-3", "task-4")), 2 * SEED_SIZE / GROUPS + 1),
+                new QueryPlanCase("ProjectTaskReactiveRepository.findByTaskId",
+                        test -> test.repository(ProjectTaskReactiveRepository.class).findByTaskId("task-3"), 1),
+                new QueryPlanCase("ProjectTaskReactiveRepository.updateTaskNameByTaskId",
+                        test -> test.repository(ProjectTaskReactiveRepository.class).updateTaskNameByTaskId("task-3", "task-name-3"), 1)
+        );
+    }
+
+
+    /* seed data: SEED_SIZE documents per collection, grouped into GROUPS projects/tasks where a query needs a parent id */
+
+    private void seed() {
+        Flux.concat(
+                mongoTemplate.insertAll(seedOf(i -> User.builder().username("user-" + i).email("user-" + i + "@devvault.io").build())),
+                mongoTemplate.insertAll(Arrays.stream(Role.values()).map(role -> Roles.builder().role(role).build()).toList()),
+                mongoTemplate.insertAll(seedOf(i -> {
+                    VerificationToken verificationToken = new VerificationToken();
+                    verificationToken.setToken("verification-" + i);
+                    return verificationToken;
+                })),
+                mongoTemplate.insertAll(seedOf(i -> JwtToken.builder().token("jwt-" + i).build())),
+                mongoTemplate.insertAll(seedOf(i -> Project.builder().projectId("project-" + i).projectName("project-name-" + i).createdAt(LocalDateTime.now().minusMinutes(i)).build())),
+                mongoTemplate.insertAll(seedOf(i -> new JoinProjectRequest(group("project-", i), "user-" + i, JoinStatus.values()[i % JoinStatus.values().length]))),
+                mongoTemplate.insertAll(seedOf(i -> new JoinCoupon("user-" + i, "leader@devvault.io", group("project-", i), "coupon-" + i))),
+                mongoTemplate.insertAll(seedOf(i -> Task.builder()
+                        .taskName("task-name-" + i)
+                        .description("topic" + i % GROUPS)
+                        .projectId(group("project-", i))
+                        .taskStatus(TaskStatus.values()[i % TaskStatus.values().length])
+                        .taskPriority(TaskPriority.values()[i % TaskPriority.values().length])
+                        .dueDate(LocalDateTime.now().plusDays(i))
+                        .build())),
+                mongoTemplate.insertAll(seedOf(i -> new ProjectMembers("user-" + i, group("project-", i)))),
+                mongoTemplate.insertAll(seedOf(i -> new UserProjectRole("user-" + i, "role-" + i % Role.values().length, group("project-", i)))),
+                mongoTemplate.insertAll(seedOf(i -> UserRole.builder()
+                        .user(linkedUser(i))
+                        .roles(Roles.builder().roleId("role-" + i % Role.values().length).build())
+                        .build())),
+                mongoTemplate.insertAll(seedOf(i -> new TaskUser(linkedTask(i % GROUPS), linkedUser(i)))),
+                mongoTemplate.insertAll(seedOf(i -> new ProjectTask(Project.builder().projectId(group("project-", i)).build(), linkedTask(i))))
+        ).blockLast();
+
+        seededRoleId = mongoTemplate.findAll(Roles.class).blockFirst().getRoleId();
+        // the queries by _id look up a real document, so their plans examine an actual key instead of an empty range
+        seededUserId = mongoTemplate.findOne(Query.query(Criteria.where("email").is("user-3@devvault.io")), User.class).block().getUserId();
+        seededTaskId = mongoTemplate.findOne(Query.query(Criteria.where("taskName").is("task-name-3")), Task.class).block().getTaskId();
+    }
+
+    private static <T> List<T> seedOf(Function<Integer, T> factory) {
+        return IntStream.range(0, SEED_SIZE).boxed().map(factory).toList();
+    }
+
+    private static String group(String prefix, int i) {
+        return prefix + i % GROUPS;
+    }
+
+    private static User linkedUser(int i) {
+        return User.builder().userId("user-" + i).username("user-" + i).build();
+    }
+
+    private static Task linkedTask(int i) {
+        return Task.builder().taskId("task-" + i).taskName("task-name-" + i).build();
+    }
+
+    private static PageRequest projectPage() {
+        return PageRequest.of(0, PROJECT_PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt", "_id"));
+    }
+
+
+    /* explain */
+
+    private <R> R repository(Class<R> repositoryInterface) {
+        Map<Class<?>, RepositoryFragments> customFragments = Map.of(
+                TaskReactiveRepository.class, RepositoryFragments.just(new TaskSearchRepositoryImpl(mongoTemplate)),
+                ProjectMembersReactiveRepository.class, RepositoryFragments.just(new ProjectMembersAssignmentRepositoryImpl(mongoTemplate)),
+                TaskUserReactiveRepository.class, RepositoryFragments.just(new TaskUserAssignmentRepositoryImpl(mongoTemplate))
+        );
+        return repositoryFactory.getRepository(repositoryInterface, customFragments.getOrDefault(repositoryInterface, RepositoryFragments.empty()));
+    }
+
+    private Document explain(QueryPlanCase queryPlanCase) {
+        capturedCommands.clear();
+        Flux.from(queryPlanCase.invocation().apply(this))
+                .onErrorResume(IncorrectResultSizeDataAccessException.class, ignored -> Flux.empty())
+                .blockLast(Duration.ofSeconds(10));
+
+        BsonDocument command = capturedCommands.stream()
+                .filter(captured -> Set.of("find", "aggregate", "count", "distinct", "update", "delete").contains(captured.getFirstKey()))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError(queryPlanCase.method() + " did not send a read or write command"));
+
+        BsonDocument explainable = new BsonDocument();
+        command.forEach((key, value) -> {
+            if (!key.startsWith("$") && !Set.of("lsid", "txnNumber", "writeConcern").contains(key))
+                explainable.append(key, value);
+        });
+
+        BsonDocument explainCommand = new BsonDocument("explain", explainable)
+                .append("verbosity", new BsonString("executionStats"));
+        return Mono.from(mongoClient.getDatabase(DATABASE).runCommand(explainCommand)).block(Duration.ofSeconds(10));
+    }
+
+    private static List<String> winningPlanStages(Object node) {
+        List<String> stages = new ArrayList<>();
+        walk(node, false, stages);
+        return stages;
+    }
+
+    private static void walk(Object node, boolean insideWinningPlan, List<String> stages) {
+        if (node instanceof Document document) {
+            document.forEach((key, value) -> {
+                if (insideWinningPlan && key.equals("stage") && value instanceof String stage)
+                    stages.add(stage);
+                if (!key.equals("rejectedPlans"))
+                    walk(value, insideWinningPlan || key.equals("winningPlan"), stages);
+            });
+        } else if (node instanceof List<?> list) {
+            list.forEach(element -> walk(element, insideWinningPlan, stages));
+        }
+    }
+
+    private static long maxExamined(Object node) {
+        if (node instanceof Document document) {
+            long examined = 0;
+            for (String key : List.of("totalDocsExamined", "totalKeysExamined"))
+                if (document.get(key) instanceof Number number)
+                    examined = Math.max(examined, number.longValue());
+            for (Object value : document.values())
+                examined = Math.max(examined, maxExamined(value));
+            return examined;
+        }
+        if (node instanceof List<?> list)
+            return list.stream().mapToLong(QueryPlanRegressionTests::maxExamined).max().orElse(0);
+        return 0;
+    }
+
+    private static List<Class<?>> repositoryInterfaces() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AssignableTypeFilter(ReactiveMongoRepository.class));
+
+        return scanner.findCandidateComponents("com.dev.vault.repository").stream()
+                .map(BeanDefinition::getBeanClassName)
+                .<Class<?>>map(className -> {
+                    try {
+                        return Class.forName(className);
+                    } catch (ClassNotFoundException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.dev.vault.util.project;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link ProjectNameIndex}: the ranking of the matches, the fuzzy matching, and the replacement of a name.
+ */
+class ProjectNameIndexTests {
+
+    @Test
+    void exactMatchRanksAbovePrefixMatchAboveSubstringMatch() {
+        ProjectNameIndex index = new ProjectNameIndex();
+        index.put("substring", "My Dev Tools");
+        index.put("prefix", "Dev Vault");
+        index.put("exact", "Dev");
+        index.put("unrelated", "Billing");
+
+        assertEquals(List.of("exact", "prefix", "substring"), index.search("dev", 10));
+    }
+
+
+    @Test
+    void closerNameRanksFirstWithinTheSameKindOfMatch() {
+        ProjectNameIndex index = new ProjectNameIndex();
+        index.put("long", "Vault Migration Service Backend");
+        index.put("short", "Vault Migration");
+
+        assertEquals(List.of("short", "long"), index.search("vault mig", 10));
+    }
+
+
+    @Test
+    void misspelledQueryStillFindsTheName() {
+        ProjectNameIndex index = new ProjectNameIndex();
+        index.put("vault", "DevVault");
+        index.put("other", "Kanban Board");
+
+        assertEquals(List.of("vault"), index.search("devvalut", 10));
+    }
+
+
+    @Test
+    void nameAndQueryAreNormalized() {
+        ProjectNameIndex index = new ProjectNameIndex();
+        index.put("vault", "  Dév--VAULT ");
+
+        assertEquals(List.of("vault"), index.search("dev vault", 10));
+        assertEquals("dev vault", ProjectNameIndex.normalize("  Dév--VAULT "));
+    }
+
+
+    @Test
+    void onlyTheBestMatchesUpToTheLimitAreReturned() {
+        ProjectNameIndex index = new ProjectNameIndex();
+        index.put("exact", "alpha");
+        index.put("prefix-short", "alpha one");
+        index.put("prefix-long", "alpha one two three");
+        index.put("substring", "the alpha team");
+
+        assertEquals(List.of("exact", "prefix-short"), index.search("alpha", 2));
+        assertEquals(List.of(), index.search("alpha", 0));
+    }
+
+
+    @Test
+    void queryWithoutAnyMatchingTrigramReturnsNothing() {
+        ProjectNameIndex index = new ProjectNameIndex();
+        index.put("vault", "DevVault");
+
+        assertEquals(List.of(), index.search("xyz", 10));
+        assertEquals(List.of(), index.search("  --  ", 10));
+        assertEquals(List.of(), index.search(null, 10));
+    }
+
+
+    @Test
+    void projectsWithTheSameNameAreAllReturned() {
+        ProjectNameIndex index = new ProjectNameIndex();
+        index.put("first", "Dev Vault");
+        index.put("second", "dev vault");
+
+        assertEquals(Set.of("first", "second"), Set.copyOf(index.search("dev vault", 10)));
+        assertEquals(2, index.size());
+    }
+
+
+    @Test
+    void replacedNameIsNoLongerFound() {
+        ProjectNameIndex index = new ProjectNameIndex();
+        index.put("project", "Alpha");
+        index.put("project", "Omega");
+
+        assertEquals(List.of(), index.search("alpha", 10));
+        assertEquals(List.of("project"), index.search("omega", 10));
+        assertEquals(1, index.size());
+    }
+
+
+    @Test
+    void nameReplacedBackIsFoundOnce() {
+        ProjectNameIndex index = new ProjectNameIndex();
+        index.put("project", "Alpha");
+        index.put("project", "Omega");
+        index.put("project", "Alpha");
+        // putting the current name again is a no-op
+        index.put("project", "alpha");
+
+        assertEquals(List.of("project"), index.search("alpha", 10));
+        assertEquals(List.of(), index.search("omega", 10));
+        assertEquals(1, index.size());
+    }
+
+
+    @Test
+    void replacedNameDoesNotHideTheOtherProjects() {
+        ProjectNameIndex index = new ProjectNameIndex();
+        index.put("renamed", "Dev Vault");
+        index.put("kept", "Dev Vault Web");
+        index.put("renamed", "Payroll");
+
+        assertEquals(List.of("kept"), index.search("dev vault", 10));
+        assertEquals(List.of("renamed"), index.search("payroll", 10));
+    }
+
+}
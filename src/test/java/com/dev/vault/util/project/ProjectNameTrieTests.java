@@ -0,0 +1,107 @@
+package com.dev.vault.util.project;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link ProjectNameTrie}, checked against a brute-force scan of the added names.
+ */
+class ProjectNameTrieTests {
+
+    private static final Comparator<String> SUGGESTION_ORDER = Comparator
+            .comparingInt((String name) -> ProjectNameIndex.normalize(name).length())
+            .thenComparing(ProjectNameIndex::normalize)
+            .thenComparing(Comparator.naturalOrder());
+
+
+    @Test
+    void suggestionsMatchABruteForcePrefixScan() {
+        Random random = new Random(42);
+        ProjectNameTrie trie = new ProjectNameTrie();
+        Set<String> names = new HashSet<>();
+
+        // a small alphabet, so the names share long prefixes and the edges are split over and over
+        for (int i = 0; i < 3_000; i++) {
+            String name = randomName(random, "abAB c-", 1 + random.nextInt(8));
+            trie.add(name);
+            if (!ProjectNameIndex.normalize(name).isEmpty())
+                names.add(name);
+
+            if (i % 100 == 0)
+                assertMatchesBruteForce(trie, names, random);
+        }
+
+        assertEquals(names.size(), trie.size());
+        assertMatchesBruteForce(trie, names, random);
+    }
+
+
+    @Test
+    void prefixEndingInTheMiddleOfAnEdgeMatchesTheWholeEdge() {
+        ProjectNameTrie trie = new ProjectNameTrie();
+        trie.add("DevVault");
+        trie.add("DevOps");
+
+        assertEquals(List.of("DevOps", "DevVault"), trie.suggest("de", 10));
+        assertEquals(List.of("DevVault"), trie.suggest("devv", 10));
+        assertEquals(List.of(), trie.suggest("devx", 10));
+        assertEquals(List.of(), trie.suggest("devvaults", 10));
+    }
+
+
+    @Test
+    void shortestNamesComeFirstAndAtMostTenAreKept() {
+        ProjectNameTrie trie = new ProjectNameTrie();
+        for (int length = 15; length >= 1; length--)
+            trie.add("p" + "x".repeat(length));
+
+        List<String> suggestions = trie.suggest("p", 20);
+        assertEquals(ProjectNameTrie.SUGGESTIONS_PER_NODE, suggestions.size());
+        assertEquals("px", suggestions.get(0));
+        assertEquals("p" + "x".repeat(10), suggestions.get(9));
+        assertEquals(List.of("px", "pxx", "pxxx"), trie.suggest("p", 3));
+        assertEquals(List.of(), trie.suggest("p", 0));
+    }
+
+
+    @Test
+    void sameNameIsOnlyAddedOnce() {
+        ProjectNameTrie trie = new ProjectNameTrie();
+        trie.add("Dev Vault");
+        trie.add("Dev Vault");
+        trie.add("dev vault");
+        trie.add("  --  ");
+
+        assertEquals(2, trie.size());
+        assertEquals(List.of("Dev Vault", "dev vault"), trie.suggest("dev", 10));
+    }
+
+
+    private static void assertMatchesBruteForce(ProjectNameTrie trie, Set<String> names, Random random) {
+        List<String> prefixes = new ArrayList<>(List.of("", "a", "b", "c", "ab", "ba", "a b", "aab", "bbc"));
+        for (int i = 0; i < 20; i++)
+            prefixes.add(randomName(random, "abAB c-", 1 + random.nextInt(5)));
+
+        for (String prefix : prefixes) {
+            String key = ProjectNameIndex.normalize(prefix);
+            List<String> expected = names.stream()
+                    .filter(name -> ProjectNameIndex.normalize(name).startsWith(key))
+                    .sorted(SUGGESTION_ORDER)
+                    .limit(ProjectNameTrie.SUGGESTIONS_PER_NODE)
+                    .toList();
+            assertEquals(expected, trie.suggest(prefix, ProjectNameTrie.SUGGESTIONS_PER_NODE), "suggestions of {" + prefix + "}");
+        }
+    }
+
+
+    private static String randomName(Random random, String alphabet, int length) {
+        StringBuilder name = new StringBuilder(length);
+        for (int i = 0; i < length; i++)
+            name.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        return name.toString();
+    }
+
+}
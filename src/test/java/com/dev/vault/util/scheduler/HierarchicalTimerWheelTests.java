@@ -0,0 +1,147 @@
+package com.dev.vault.util.scheduler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of {@link HierarchicalTimerWheel}: every timer must expire exactly once, on the first advance at or after its deadline.
+ */
+class HierarchicalTimerWheelTests {
+
+    /* an hour boundary, so the cascades happen at known offsets */
+    private static final long START = 1_699_999_200_000L;
+    private static final long SECOND = 1_000L;
+    private static final long MINUTE = 60 * SECOND;
+    private static final long HOUR = 60 * MINUTE;
+
+
+    @Test
+    void subSecondDeadlineNeverExpiresBeforeItIsReached() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(START);
+        wheel.schedule("task", START + SECOND + 700);
+
+        assertEquals(List.of(), wheel.advance(START + SECOND));
+        assertEquals(List.of(), wheel.advance(START + SECOND + 699));
+        assertEquals(List.of("task"), wheel.advance(START + 2 * SECOND));
+        assertEquals(0, wheel.size());
+    }
+
+
+    @Test
+    void wholeSecondDeadlineExpiresOnThatSecond() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(START);
+        wheel.schedule("task", START + 5 * SECOND);
+
+        assertEquals(List.of(), wheel.advance(START + 5 * SECOND - 1));
+        assertEquals(List.of("task"), wheel.advance(START + 5 * SECOND));
+    }
+
+
+    @Test
+    void pastDeadlineExpiresOnTheNextSecond() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(START);
+        wheel.schedule("task", START - 5 * SECOND);
+
+        assertEquals(List.of("task"), wheel.advance(START + SECOND));
+    }
+
+
+    @Test
+    void cancelledTimerNeverExpires() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(START);
+        wheel.schedule("task", START + 10 * SECOND);
+        wheel.cancel("task");
+
+        assertEquals(0, wheel.size());
+        assertEquals(List.of(), wheel.advance(START + MINUTE));
+    }
+
+
+    @Test
+    void rescheduledTimerOnlyExpiresAtItsNewDeadline() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(START);
+        wheel.schedule("later", START + 10 * SECOND);
+        wheel.schedule("later", START + 30 * SECOND);
+        wheel.schedule("earlier", START + 50 * SECOND);
+        wheel.schedule("earlier", START + 40 * SECOND);
+        // scheduling the same deadline again is a no-op
+        wheel.schedule("earlier", START + 40 * SECOND);
+
+        assertEquals(List.of(), wheel.advance(START + 29 * SECOND));
+        assertEquals(List.of("later"), wheel.advance(START + 30 * SECOND));
+        assertEquals(List.of("earlier"), wheel.advance(START + 40 * SECOND));
+        assertEquals(List.of(), wheel.advance(START + 2 * MINUTE));
+    }
+
+
+    @Test
+    void timerCascadesFromTheMinuteWheel() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(START);
+        wheel.schedule("task", START + 2 * MINUTE + 5 * SECOND + 500);
+
+        assertExpiresExactlyAt(wheel, "task", START, START + 2 * MINUTE + 6 * SECOND);
+    }
+
+
+    @Test
+    void timerCascadesFromTheHourWheel() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(START + 17 * SECOND);
+        wheel.schedule("task", START + 3 * HOUR + 2 * MINUTE + 3 * SECOND + 1);
+
+        assertExpiresExactlyAt(wheel, "task", START + 17 * SECOND, START + 3 * HOUR + 2 * MINUTE + 4 * SECOND);
+    }
+
+
+    @Test
+    void timersExpiringInOneAdvanceAreReturnedInDeadlineOrder() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(START);
+        wheel.schedule("third", START + 2 * HOUR);
+        wheel.schedule("first", START + 30 * SECOND);
+        wheel.schedule("second", START + 5 * MINUTE);
+
+        assertEquals(List.of("first", "second", "third"), wheel.advance(START + 3 * HOUR));
+    }
+
+
+    @Test
+    void pauseLongerThanTheHorizonExpiresEveryPendingTimer() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(START);
+        wheel.schedule("third", START + 10 * HOUR);
+        wheel.schedule("first", START + 30 * SECOND);
+        wheel.schedule("second", START + HOUR);
+
+        long resumedAt = START + (HierarchicalTimerWheel.HORIZON_SECONDS + 10) * SECOND;
+        assertEquals(List.of("first", "second", "third"), wheel.advance(resumedAt));
+        assertEquals(0, wheel.size());
+
+        // the wheel keeps working from the new time
+        wheel.schedule("next", resumedAt + 90 * SECOND);
+        assertExpiresExactlyAt(wheel, "next", resumedAt, resumedAt + 90 * SECOND);
+    }
+
+
+    @Test
+    void deadlineBeyondTheHorizonIsRejected() {
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(START);
+        wheel.schedule("task", START + MINUTE);
+
+        assertFalse(wheel.schedule("task", START + (HierarchicalTimerWheel.HORIZON_SECONDS + 5) * SECOND));
+        assertEquals(0, wheel.size());
+        assertTrue(wheel.schedule("task", START + (HierarchicalTimerWheel.HORIZON_SECONDS - 5) * SECOND));
+    }
+
+
+    /**
+     * Advances the wheel one second at a time from {@code fromMillis}, and checks that the timer expires on {@code expectedMillis},
+     * and not a second earlier.
+     */
+    private static void assertExpiresExactlyAt(HierarchicalTimerWheel<String> wheel, String key, long fromMillis, long expectedMillis) {
+        for (long now = fromMillis; now < expectedMillis; now += SECOND)
+            assertEquals(List.of(), wheel.advance(now), key + " expired early, at " + now);
+        assertEquals(List.of(key), wheel.advance(expectedMillis));
+    }
+
+}
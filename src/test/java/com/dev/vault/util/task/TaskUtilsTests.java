@@ -0,0 +1,75 @@
+package com.dev.vault.util.task;
+
+import com.dev.vault.helper.payload.request.task.TaskRequest;
+import com.dev.vault.model.domain.task.Task;
+import com.dev.vault.model.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests of the reminder watermark kept by {@link TaskUtils#buildTaskObject_ForUpdateTask(Task, TaskRequest)}.
+ */
+class TaskUtilsTests {
+
+    private static final LocalDateTime DUE_DATE = LocalDateTime.of(2030, 1, 2, 12, 0);
+    private static final LocalDateTime FIRST_REMINDER = DUE_DATE.minusHours(24);
+
+    private final TaskReminderUtils taskReminderUtils = new TaskReminderUtils(null, null, null, null, new String[]{"1h", "24h"});
+    private final TaskUtils taskUtils = new TaskUtils(null, null, null, null, null, null, null, null, null, taskReminderUtils);
+
+
+    @Test
+    void reopenedOverdueTaskIsRemindedAgain() {
+        Task task = task(TaskStatus.OVERDUE, null);
+
+        Task updated = taskUtils.buildTaskObject_ForUpdateTask(task, TaskRequest.builder().taskStatus(TaskStatus.IN_PROGRESS).build()).block();
+
+        assertEquals(TaskStatus.IN_PROGRESS, updated.getTaskStatus());
+        assertEquals(FIRST_REMINDER, updated.getReminderWatermark());
+    }
+
+
+    @Test
+    void taskLeavingProgressIsNotRemindedAnyMore() {
+        Task task = task(TaskStatus.IN_PROGRESS, FIRST_REMINDER);
+
+        Task updated = taskUtils.buildTaskObject_ForUpdateTask(task, TaskRequest.builder().taskStatus(TaskStatus.COMPLETED).build()).block();
+
+        assertNull(updated.getReminderWatermark());
+    }
+
+
+    @Test
+    void newDueDateRestartsTheReminders() {
+        Task task = task(TaskStatus.IN_PROGRESS, DUE_DATE.minusHours(1));
+
+        Task updated = taskUtils.buildTaskObject_ForUpdateTask(task, TaskRequest.builder().dueDate(DUE_DATE.plusDays(1)).build()).block();
+
+        assertEquals(FIRST_REMINDER.plusDays(1), updated.getReminderWatermark());
+    }
+
+
+    @Test
+    void taskStillInProgressWithEveryReminderSentIsNotRemindedTwice() {
+        // the last reminder has been sent, so the watermark has been removed
+        Task task = task(TaskStatus.IN_PROGRESS, null);
+
+        Task updated = taskUtils.buildTaskObject_ForUpdateTask(task, TaskRequest.builder().description("new description").build()).block();
+
+        assertNull(updated.getReminderWatermark());
+    }
+
+
+    private static Task task(TaskStatus taskStatus, LocalDateTime reminderWatermark) {
+        return Task.builder()
+                .taskId("task")
+                .taskStatus(taskStatus)
+                .dueDate(DUE_DATE)
+                .reminderWatermark(reminderWatermark)
+                .build();
+    }
+
+}